@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log.benchmark;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import dev.alshakib.log.LogCompat;
+import dev.alshakib.log.LogRecord;
+import dev.alshakib.log.LogSink;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LogCompatBenchmark {
+    private static final String TAG = "Benchmark";
+    private static final String MESSAGE = "The quick brown fox jumps over the lazy dog";
+    private static final String SMALL_JSON = "{\"id\":42,\"name\":\"LogCompat\",\"enabled\":true}";
+
+    private final CountingSink sink = new CountingSink();
+    private final Exception exception = new IllegalStateException("Benchmark", new RuntimeException("Cause"));
+    private String largeJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder builder = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < 200; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(i)
+                    .append(",\"name\":\"item ").append(i)
+                    .append("\",\"tags\":[\"a\",\"b\",\"c\"],\"nested\":{\"value\":").append(i * 0.5).append("}}");
+        }
+        largeJson = builder.append("]}").toString();
+        LogCompat.setSinks(sink);
+        LogCompat.setLogLevel(Log.INFO);
+        LogCompat.setTraceFoldingWindow(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LogCompat.clearLogLevels();
+        LogCompat.setLogLevel(Log.VERBOSE);
+    }
+
+    @Benchmark
+    public void stringTag() {
+        LogCompat.info(TAG, MESSAGE);
+    }
+
+    @Benchmark
+    public void classTag() {
+        LogCompat.info(LogCompatBenchmark.class, MESSAGE);
+    }
+
+    @Benchmark
+    public void objectTag() {
+        LogCompat.info(this, MESSAGE);
+    }
+
+    @Benchmark
+    public void defaultTag() {
+        LogCompat.info(MESSAGE);
+    }
+
+    @Benchmark
+    public void primitive() {
+        LogCompat.info(TAG, "count=", 1234567L);
+    }
+
+    @Benchmark
+    public void structuredEvent() {
+        LogCompat.atInfo(TAG).kv("userId", 42).kv("latencyMs", 3.2).log(MESSAGE);
+    }
+
+    @Benchmark
+    public void jsonSmall() {
+        LogCompat.info(TAG, SMALL_JSON, true);
+    }
+
+    @Benchmark
+    public void jsonLarge() {
+        LogCompat.info(TAG, largeJson, true);
+    }
+
+    @Benchmark
+    public void exception() {
+        LogCompat.error(TAG, exception);
+    }
+
+    @Benchmark
+    public void disabledLevel() {
+        LogCompat.verbose(TAG, MESSAGE);
+    }
+
+    @Benchmark
+    public void disabledLevelWithConcatenation() {
+        LogCompat.debug(TAG, MESSAGE + System.nanoTime());
+    }
+
+    private static final class CountingSink implements LogSink {
+        private long count;
+
+        @Override
+        public void write(@NonNull LogRecord record) {
+            count += String.valueOf(record.getMessage()).length();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+#
+# MIT License
+#
+# Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+#
+# This file is part of Log Compat
+#
+# Permission is hereby granted, free of charge, to any person obtaining a copy
+# of this software and associated documentation files (the "Software"), to deal
+# in the Software without restriction, including without limitation the rights
+# to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+# copies of the Software, and to permit persons to whom the Software is
+# furnished to do so, subject to the following conditions:
+#
+# The above copyright notice and this permission notice shall be included in all
+# copies or substantial portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+#
+#
+
+# Removes LogCompat and Logger debug calls, together with the construction of
+# their arguments, from builds that add this file to proguardFiles. atDebug and
+# span calls, whose spans report at debug level, return the disabled instances.
+
+-assumenosideeffects class dev.alshakib.log.LogCompat {
+    public static void debug(...);
+    public static dev.alshakib.log.LogEvent atDebug(...) return dev.alshakib.log.LogEvent.NOOP;
+    public static dev.alshakib.log.LogCompat$Span span(...) return dev.alshakib.log.LogCompat$Span.NOOP;
+}
+-assumenosideeffects class dev.alshakib.log.Logger {
+    public void debug(...);
+    public dev.alshakib.log.LogEvent atDebug() return dev.alshakib.log.LogEvent.NOOP;
+    public dev.alshakib.log.LogCompat$Span span(...) return dev.alshakib.log.LogCompat$Span.NOOP;
+}
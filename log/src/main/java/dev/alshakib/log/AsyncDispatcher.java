@@ -0,0 +1,304 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+final class AsyncDispatcher implements Runnable {
+    static final int REJECTED = 0;
+    static final int QUEUED = 1;
+    static final int DROPPED = 2;
+
+    private static final String TAG = "LogCompat";
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long DROP_REPORT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final OverflowPolicy policy;
+    private final int mask;
+    private final LogRecord[] records;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread thread;
+
+    private volatile boolean running = true;
+    private volatile boolean parked;
+    private volatile long completed;
+    private volatile int maxBatchSize = 1;
+    private volatile long lingerNanos;
+
+    private LogRecord[] batch = new LogRecord[0];
+    private long droppedReportedAt;
+
+    AsyncDispatcher(int capacity, @NonNull OverflowPolicy policy) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.policy = policy;
+        this.mask = size - 1;
+        this.records = new LogRecord[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            records[i] = new LogRecord();
+            sequences.set(i, i);
+        }
+        this.droppedReportedAt = System.nanoTime();
+        this.thread = new Thread(this, "LogCompat-async");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    int publish(int priority, String tag, String message, Throwable throwable, long timestamp, long threadId,
+                LogFields fields, LogContext context) {
+        if (!running) {
+            return REJECTED;
+        }
+        while (!offer(priority, tag, message, throwable, timestamp, threadId, fields, context)) {
+            if (policy == OverflowPolicy.DROP_NEWEST) {
+                dropped.incrementAndGet();
+                LogCompat.recordDropped(priority, tag);
+                return DROPPED;
+            } else if (policy == OverflowPolicy.DROP_OLDEST) {
+                if (poll(null)) {
+                    dropped.incrementAndGet();
+                }
+            } else {
+                LockSupport.unpark(thread);
+                LockSupport.parkNanos(this, BACKOFF_NANOS);
+                if (!running) {
+                    return REJECTED;
+                }
+            }
+        }
+        if (!running) {
+            // shutdown() may already have drained the buffer, so nobody else will see this record
+            drainLate();
+        } else if (parked) {
+            LockSupport.unpark(thread);
+        }
+        return QUEUED;
+    }
+
+    void flush() {
+        if (Thread.currentThread() == thread) {
+            return;
+        }
+        long target = tail.get();
+        while (completed < target && thread.isAlive()) {
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(this, BACKOFF_NANOS);
+        }
+    }
+
+    void shutdown() {
+        running = false;
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        drain();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    boolean isUnderPressure() {
+        return tail.get() - head.get() > (mask + 1) / 2;
+    }
+
+    void setBatching(int maxBatchSize, long lingerMillis) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, lingerMillis));
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            if (dispatchBatch(true)) {
+                if (dropped.get() > 0 && System.nanoTime() - droppedReportedAt >= DROP_REPORT_NANOS) {
+                    reportDropped();
+                }
+            } else {
+                reportDropped();
+                completed = head.get();
+                parked = true;
+                if (isEmpty() && running) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                parked = false;
+            }
+        }
+        drain();
+    }
+
+    private void drain() {
+        while (dispatchBatch(false)) {
+            // Keep draining until the buffer is empty
+        }
+        reportDropped();
+        completed = head.get();
+    }
+
+    private void drainLate() {
+        LogRecord record = new LogRecord();
+        while (poll(record)) {
+            LogCompat.dispatch(record);
+            record.clear();
+        }
+    }
+
+    private boolean dispatchBatch(boolean linger) {
+        int maxBatchSize = this.maxBatchSize;
+        if (batch.length != maxBatchSize) {
+            batch = new LogRecord[maxBatchSize];
+            for (int i = 0; i < maxBatchSize; i++) {
+                batch[i] = new LogRecord();
+            }
+        }
+        if (!poll(batch[0])) {
+            return false;
+        }
+        long lingerNanos = linger ? this.lingerNanos : 0;
+        long deadline = lingerNanos > 0 ? System.nanoTime() + lingerNanos : 0;
+        int count = 1;
+        while (count < maxBatchSize && pollOrLinger(batch[count], deadline)) {
+            count++;
+        }
+        LogCompat.dispatch(batch, count);
+        for (int i = 0; i < count; i++) {
+            batch[i].clear();
+        }
+        completed = head.get();
+        return true;
+    }
+
+    private boolean pollOrLinger(@NonNull LogRecord record, long deadline) {
+        while (!poll(record)) {
+            if (deadline == 0 || !awaitRecords(deadline)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean awaitRecords(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0 || !running) {
+            return false;
+        }
+        parked = true;
+        if (isEmpty()) {
+            LockSupport.parkNanos(this, remaining);
+        }
+        parked = false;
+        return true;
+    }
+
+    private void reportDropped() {
+        long count = dropped.getAndSet(0);
+        if (count > 0) {
+            droppedReportedAt = System.nanoTime();
+            LogRecord record = new LogRecord();
+            record.set(Log.WARN, TAG, "Dropped " + count + " log records, async buffer is full",
+                    null, System.currentTimeMillis(), Thread.currentThread().getId());
+            LogCompat.dispatch(record);
+        }
+    }
+
+    private boolean isEmpty() {
+        long position = head.get();
+        return sequences.get((int) position & mask) != position + 1;
+    }
+
+    private boolean offer(int priority, String tag, String message, Throwable throwable, long timestamp,
+                          long threadId, LogFields fields, LogContext context) {
+        long position = tail.get();
+        for (;;) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    records[index].set(priority, tag, message, throwable, timestamp, threadId);
+                    records[index].copyFields(fields);
+                    records[index].setContext(context);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private boolean poll(LogRecord target) {
+        long position = head.get();
+        for (;;) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    LogRecord record = records[index];
+                    if (target != null) {
+                        target.set(record);
+                    } else {
+                        LogCompat.recordDropped(record.getPriority(), record.getTag());
+                    }
+                    record.clear();
+                    sequences.set(index, position + mask + 1);
+                    return true;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+public final class BatchStats {
+    private final long batchCount;
+    private final long recordCount;
+    private final int largestBatchSize;
+
+    BatchStats(long batchCount, long recordCount, int largestBatchSize) {
+        this.batchCount = batchCount;
+        this.recordCount = recordCount;
+        this.largestBatchSize = largestBatchSize;
+    }
+
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public int getLargestBatchSize() {
+        return largestBatchSize;
+    }
+
+    public double getAverageBatchSize() {
+        return batchCount > 0 ? (double) recordCount / batchCount : 0;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "BatchStats{" +
+                "batchCount=" + batchCount +
+                ", recordCount=" + recordCount +
+                ", largestBatchSize=" + largestBatchSize +
+                ", averageBatchSize=" + getAverageBatchSize() +
+                '}';
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+public final class BinaryLogDecoder {
+    private static final String PRIORITIES = "??VDIWEA";
+
+    private BinaryLogDecoder() { }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: BinaryLogDecoder <segment.lcb>...");
+            System.exit(1);
+        }
+        Writer output = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+        for (String path : args) {
+            try (InputStream input = open(new File(path))) {
+                decode(input, output);
+            }
+        }
+        output.flush();
+    }
+
+    public static void decode(@NonNull InputStream input, @NonNull Appendable output) throws IOException {
+        InputStream stream = new BufferedInputStream(input);
+        for (int i = 0; i < BinaryRecordEncoder.MAGIC.length - 1; i++) {
+            if (stream.read() != BinaryRecordEncoder.MAGIC[i]) {
+                throw new IOException("Not a LogCompat binary segment");
+            }
+        }
+        int version = stream.read() - '0';
+        if (version < 1 || version > 2) {
+            throw new IOException("Unsupported LogCompat binary segment version: " + version);
+        }
+        long processId = readVarLong(stream);
+        long timestamp = 0;
+        for (int i = 0; i < 8; i++) {
+            timestamp = (timestamp << 8) | readByte(stream);
+        }
+        List<String> tags = new ArrayList<>();
+        List<String> messages = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        LogFields fields = new LogFields();
+        StringBuilder builder = new StringBuilder();
+        SimpleDateFormat dateFormat = new SimpleDateFormat("MM-dd HH:mm:ss.SSS", Locale.US);
+        Date date = new Date();
+        try {
+            for (int priority = stream.read(); priority > 0; priority = stream.read()) {
+                long delta = readVarLong(stream);
+                timestamp += (delta >>> 1) ^ -(delta & 1);
+                long threadId = readVarLong(stream);
+                String tag = readString(stream, tags, Integer.MAX_VALUE);
+                String message = readString(stream, messages, BinaryRecordEncoder.MAX_TEMPLATE_BYTES);
+                if (version >= 2) {
+                    fields.clear();
+                    for (long count = readVarLong(stream); count > 0; count--) {
+                        readField(stream, fields, keys, values);
+                    }
+                    if (fields.size() > 0) {
+                        builder.setLength(0);
+                        builder.append(message).append(' ');
+                        fields.appendTo(builder);
+                        message = builder.toString();
+                    }
+                }
+                date.setTime(timestamp);
+                String header = String.format(Locale.US, "%s %5d %5d %c %-8s: ", dateFormat.format(date),
+                        processId, threadId, priority < PRIORITIES.length() ? PRIORITIES.charAt(priority) : '?', tag);
+                for (String line : message.split("\n", -1)) {
+                    output.append(header).append(line).append('\n');
+                }
+            }
+        } catch (EOFException e) {
+            // The last record was cut short by a crash or a full segment
+        }
+    }
+
+    @NonNull
+    private static InputStream open(@NonNull File file) throws IOException {
+        InputStream input = new FileInputStream(file);
+        return file.getName().endsWith(".gz") ? new GZIPInputStream(input) : input;
+    }
+
+    private static void readField(@NonNull InputStream stream, @NonNull LogFields fields, @NonNull List<String> keys,
+                                  @NonNull List<String> values) throws IOException {
+        String key = readString(stream, keys, BinaryRecordEncoder.MAX_TEMPLATE_BYTES);
+        int type = readByte(stream);
+        switch (type) {
+            case LogFields.TYPE_LONG:
+                long value = readVarLong(stream);
+                fields.add(key, type, (value >>> 1) ^ -(value & 1));
+                break;
+            case LogFields.TYPE_DOUBLE:
+                fields.add(key, type, readFixed(stream, 8));
+                break;
+            case LogFields.TYPE_FLOAT:
+                fields.add(key, type, (int) readFixed(stream, 4));
+                break;
+            case LogFields.TYPE_BOOLEAN:
+            case LogFields.TYPE_CHAR:
+                fields.add(key, type, readVarLong(stream));
+                break;
+            case LogFields.TYPE_OBJECT:
+                fields.add(key, readString(stream, values, BinaryRecordEncoder.MAX_TEMPLATE_BYTES));
+                break;
+            default:
+                throw new IOException("Unknown field type: " + type);
+        }
+    }
+
+    private static long readFixed(@NonNull InputStream stream, int size) throws IOException {
+        long value = 0;
+        for (int i = 0; i < size; i++) {
+            value = (value << 8) | readByte(stream);
+        }
+        return value;
+    }
+
+    @NonNull
+    private static String readString(@NonNull InputStream stream, @NonNull List<String> dictionary, int maxBytes)
+            throws IOException {
+        long reference = readVarLong(stream);
+        if (reference > 0) {
+            if (reference > dictionary.size()) {
+                throw new IOException("Unknown dictionary reference: " + reference);
+            }
+            return dictionary.get((int) reference - 1);
+        }
+        int length = (int) readVarLong(stream);
+        byte[] bytes = new byte[length];
+        for (int offset = 0; offset < length; ) {
+            int read = stream.read(bytes, offset, length - offset);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            offset += read;
+        }
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        if (length <= maxBytes && dictionary.size() < BinaryRecordEncoder.MAX_DICTIONARY_SIZE) {
+            dictionary.add(value);
+        }
+        return value;
+    }
+
+    private static long readVarLong(@NonNull InputStream stream) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int read = readByte(stream);
+            value |= (long) (read & 0x7f) << shift;
+            if ((read & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    private static int readByte(@NonNull InputStream stream) throws IOException {
+        int read = stream.read();
+        if (read < 0) {
+            throw new EOFException();
+        }
+        return read;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+final class BinaryRecordEncoder extends RecordEncoder {
+    static final byte[] MAGIC = { 'L', 'C', 'B', '2' };
+    static final int MAX_DICTIONARY_SIZE = 4096;
+    static final int MAX_TEMPLATE_BYTES = 256;
+
+    private final int processId;
+    private final HashMap<String, Integer> tags = new HashMap<>();
+    private final HashMap<String, Integer> messages = new HashMap<>();
+    private final HashMap<String, Integer> keys = new HashMap<>();
+    private final HashMap<String, Integer> values = new HashMap<>();
+    private final ArrayList<HashMap<String, Integer>> addedTo = new ArrayList<>();
+    private final ArrayList<String> added = new ArrayList<>();
+    private long lastTimestamp;
+    private long previousTimestamp;
+
+    BinaryRecordEncoder(int processId) {
+        this.processId = processId;
+    }
+
+    @NonNull
+    @Override
+    String getSuffix() {
+        return ".lcb";
+    }
+
+    @Override
+    boolean isPaddingTrimmable() {
+        return false;
+    }
+
+    @Override
+    int beginSegment(long timestamp) {
+        length = 0;
+        tags.clear();
+        messages.clear();
+        keys.clear();
+        values.clear();
+        addedTo.clear();
+        added.clear();
+        lastTimestamp = timestamp;
+        previousTimestamp = timestamp;
+        for (byte value : MAGIC) {
+            appendByte(value);
+        }
+        appendVarLong(processId);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            appendByte((int) (timestamp >>> shift));
+        }
+        return length;
+    }
+
+    @Override
+    int encode(@NonNull LogRecord record) {
+        length = 0;
+        addedTo.clear();
+        added.clear();
+        appendByte(record.getPriority());
+        long delta = record.getTimestamp() - lastTimestamp;
+        appendVarLong((delta << 1) ^ (delta >> 63));
+        previousTimestamp = lastTimestamp;
+        lastTimestamp = record.getTimestamp();
+        appendVarLong(record.getThreadId());
+        appendString(tags, String.valueOf(record.getTag()), Integer.MAX_VALUE);
+        appendString(messages, String.valueOf(record.getMessage()), MAX_TEMPLATE_BYTES);
+        LogFields fields = record.getFields();
+        LogContext context = record.getContext();
+        int size = fields != null ? fields.size() : 0;
+        appendVarLong(size + (context != null ? context.size() : 0));
+        appendContext(context);
+        for (int i = 0; i < size; i++) {
+            appendString(keys, fields.getKey(i), MAX_TEMPLATE_BYTES);
+            int type = fields.getType(i);
+            appendByte(type);
+            long value = fields.getRawValue(i);
+            switch (type) {
+                case LogFields.TYPE_LONG:
+                    appendVarLong((value << 1) ^ (value >> 63));
+                    break;
+                case LogFields.TYPE_DOUBLE:
+                    appendFixed(value, 8);
+                    break;
+                case LogFields.TYPE_FLOAT:
+                    appendFixed(value, 4);
+                    break;
+                case LogFields.TYPE_BOOLEAN:
+                case LogFields.TYPE_CHAR:
+                    appendVarLong(value);
+                    break;
+                default:
+                    appendString(values, String.valueOf(fields.getValue(i)), MAX_TEMPLATE_BYTES);
+                    break;
+            }
+        }
+        return length;
+    }
+
+    @Override
+    void discard() {
+        super.discard();
+        for (int i = added.size() - 1; i >= 0; i--) {
+            addedTo.get(i).remove(added.get(i));
+        }
+        addedTo.clear();
+        added.clear();
+        lastTimestamp = previousTimestamp;
+    }
+
+    private void appendContext(LogContext context) {
+        if (context == null) {
+            return;
+        }
+        appendContext(context.getParent());
+        appendString(keys, context.getKey(), MAX_TEMPLATE_BYTES);
+        appendByte(LogFields.TYPE_OBJECT);
+        appendString(values, context.getValue(), MAX_TEMPLATE_BYTES);
+    }
+
+    private void appendFixed(long value, int size) {
+        for (int shift = (size - 1) * 8; shift >= 0; shift -= 8) {
+            appendByte((int) (value >>> shift));
+        }
+    }
+
+    private void appendString(@NonNull HashMap<String, Integer> dictionary, @NonNull String value, int maxBytes) {
+        Integer index = dictionary.get(value);
+        if (index != null) {
+            appendVarLong(index + 1);
+            return;
+        }
+        int byteLength = Utf8.length(value);
+        appendVarLong(0);
+        appendVarLong(byteLength);
+        appendChars(value, 0, value.length());
+        if (byteLength <= maxBytes && dictionary.size() < MAX_DICTIONARY_SIZE) {
+            dictionary.put(value, dictionary.size());
+            addedTo.add(dictionary);
+            added.add(value);
+        }
+    }
+
+    private void appendVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7fL) != 0) {
+            bytes[length++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+}
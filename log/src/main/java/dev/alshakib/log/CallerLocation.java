@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+final class CallerLocation {
+    static final int DEFAULT_SAMPLE_RATE = 64;
+
+    private static final String PACKAGE = "dev.alshakib.log.";
+
+    private final LocationMode mode;
+    private final int sampleRate;
+    private final ThreadLocal<State> state = new ThreadLocal<State>() {
+        @Override
+        protected State initialValue() {
+            return new State();
+        }
+    };
+
+    CallerLocation(@NonNull LocationMode mode, int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be at least 1: " + sampleRate);
+        }
+        this.mode = mode;
+        this.sampleRate = sampleRate;
+    }
+
+    // Calls without a site have no identity to cache on, so CACHED resolves
+    // each of them and SAMPLED resolves one in sampleRate
+    void begin(LogSite site) {
+        State current = state.get();
+        if (site != null) {
+            String location = site.location;
+            if (location == null) {
+                location = resolve();
+                site.location = location;
+            }
+            current.location = location;
+        } else if (mode == LocationMode.CACHED || ++current.count >= sampleRate) {
+            current.count = 0;
+            current.location = resolve();
+        } else {
+            current.location = null;
+        }
+    }
+
+    String apply(String message) {
+        State current = state.get();
+        String location = current.location;
+        if (location == null) {
+            return message;
+        }
+        current.location = null;
+        return '[' + location + "] " + message;
+    }
+
+    private static String resolve() {
+        for (StackTraceElement element : new Throwable().getStackTrace()) {
+            String className = element.getClassName();
+            if (className.startsWith(PACKAGE) && className.indexOf('.', PACKAGE.length()) < 0) {
+                continue;
+            }
+            StringBuilder builder = new StringBuilder(className.substring(className.lastIndexOf('.') + 1))
+                    .append('.').append(element.getMethodName());
+            if (element.getLineNumber() >= 0) {
+                builder.append(':').append(element.getLineNumber());
+            }
+            return builder.toString();
+        }
+        return null;
+    }
+
+    private static final class State {
+        private String location;
+        private int count;
+    }
+}
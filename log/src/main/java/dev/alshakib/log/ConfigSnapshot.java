@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+final class ConfigSnapshot {
+    static final int RECORDER_DISABLED = Log.ASSERT + 1;
+    static final ConfigSnapshot DEFAULT = new ConfigSnapshot(Log.VERBOSE, Collections.<String, Integer>emptyMap(),
+            RECORDER_DISABLED, Collections.<String, RateLimiter[]>emptyMap(), new LogSink[] { new LogcatSink() },
+            "LogCompat");
+
+    private final int level;
+    private final Map<String, Integer> tagLevels;
+    private final int recorderLevel;
+    private final Map<String, RateLimiter[]> rateLimiters;
+    private final LogSink[] sinks;
+    private final String defaultTag;
+
+    private ConfigSnapshot(int level, Map<String, Integer> tagLevels, int recorderLevel,
+                           Map<String, RateLimiter[]> rateLimiters, LogSink[] sinks, String defaultTag) {
+        this.level = level;
+        this.tagLevels = tagLevels;
+        this.recorderLevel = recorderLevel;
+        this.rateLimiters = rateLimiters;
+        this.sinks = sinks;
+        this.defaultTag = defaultTag;
+    }
+
+    boolean isLoggable(@NonNull String tag, int priority) {
+        return priority >= recorderLevel || isSinkLoggable(tag, priority);
+    }
+
+    boolean isRecordable(int priority) {
+        return priority >= recorderLevel;
+    }
+
+    boolean isSinkLoggable(@NonNull String tag, int priority) {
+        if (tagLevels.isEmpty()) {
+            return priority >= level;
+        }
+        Integer tagLevel = tagLevels.get(tag);
+        return priority >= (tagLevel != null ? tagLevel : level);
+    }
+
+    RateLimiter getRateLimiter(@NonNull String tag, int priority) {
+        if (rateLimiters.isEmpty()) {
+            return null;
+        }
+        RateLimiter[] limiters = rateLimiters.get(tag);
+        return limiters != null ? limiters[priority] : null;
+    }
+
+    RateLimiter[] getRateLimiters(@NonNull String tag) {
+        return rateLimiters.get(tag);
+    }
+
+    @NonNull
+    LogSink[] getSinks() {
+        return sinks;
+    }
+
+    String getDefaultTag() {
+        return defaultTag;
+    }
+
+    int getEnabledLevels(@NonNull String tag) {
+        Integer tagLevel = tagLevels.get(tag);
+        int minimum = Math.min(tagLevel != null ? tagLevel : level, recorderLevel);
+        int enabledLevels = 0;
+        for (int priority = Log.VERBOSE; priority <= Log.ASSERT; priority++) {
+            if (priority >= minimum) {
+                enabledLevels |= 1 << priority;
+            }
+        }
+        return enabledLevels;
+    }
+
+    ConfigSnapshot withLevel(int level) {
+        return new ConfigSnapshot(level, tagLevels, recorderLevel, rateLimiters, sinks, defaultTag);
+    }
+
+    ConfigSnapshot withoutLevels() {
+        return new ConfigSnapshot(DEFAULT.level, DEFAULT.tagLevels, recorderLevel, rateLimiters, sinks, defaultTag);
+    }
+
+    ConfigSnapshot withRecorderLevel(int recorderLevel) {
+        return new ConfigSnapshot(level, tagLevels, recorderLevel, rateLimiters, sinks, defaultTag);
+    }
+
+    ConfigSnapshot withSinks(@NonNull LogSink[] sinks) {
+        return new ConfigSnapshot(level, tagLevels, recorderLevel, rateLimiters, sinks, defaultTag);
+    }
+
+    ConfigSnapshot withDefaultTag(String defaultTag) {
+        return new ConfigSnapshot(level, tagLevels, recorderLevel, rateLimiters, sinks, defaultTag);
+    }
+
+    ConfigSnapshot withConfig(@NonNull LogConfig config, @NonNull LogSink[] sinks) {
+        Map<String, RateLimiter[]> rateLimiters = new HashMap<>();
+        for (LogConfig.RateLimit rateLimit : config.getRateLimits()) {
+            RateLimiter[] limiters = rateLimiters.get(rateLimit.tag);
+            if (limiters == null) {
+                limiters = new RateLimiter[Log.ASSERT + 1];
+                rateLimiters.put(rateLimit.tag, limiters);
+            }
+            limiters[rateLimit.priority] = new RateLimiter(rateLimit.priority, rateLimit.tag,
+                    rateLimit.recordsPerSecond, rateLimit.burst, rateLimit.sampleRate);
+        }
+        return new ConfigSnapshot(config.getLevel(), config.getTagLevels(), recorderLevel,
+                Collections.unmodifiableMap(rateLimiters), sinks,
+                config.getDefaultTag() != null ? config.getDefaultTag() : defaultTag);
+    }
+
+    ConfigSnapshot withRateLimiter(@NonNull String tag, int priority, RateLimiter limiter) {
+        RateLimiter[] limiters = rateLimiters.get(tag);
+        limiters = limiters != null ? limiters.clone() : new RateLimiter[Log.ASSERT + 1];
+        limiters[priority] = limiter;
+        Map<String, RateLimiter[]> rateLimiters = new HashMap<>(this.rateLimiters);
+        rateLimiters.put(tag, limiters);
+        for (RateLimiter remaining : limiters) {
+            if (remaining != null) {
+                return new ConfigSnapshot(level, tagLevels, recorderLevel, Collections.unmodifiableMap(rateLimiters),
+                        sinks, defaultTag);
+            }
+        }
+        rateLimiters.remove(tag);
+        return new ConfigSnapshot(level, tagLevels, recorderLevel, Collections.unmodifiableMap(rateLimiters), sinks,
+                defaultTag);
+    }
+
+    ConfigSnapshot withoutRateLimiters() {
+        return new ConfigSnapshot(level, tagLevels, recorderLevel, Collections.<String, RateLimiter[]>emptyMap(),
+                sinks, defaultTag);
+    }
+
+    ConfigSnapshot withTagLevel(@NonNull String tag, int level) {
+        Map<String, Integer> tagLevels = new HashMap<>(this.tagLevels);
+        tagLevels.put(tag, level);
+        return new ConfigSnapshot(this.level, Collections.unmodifiableMap(tagLevels), recorderLevel, rateLimiters,
+                sinks, defaultTag);
+    }
+
+    ConfigSnapshot withoutTagLevel(@NonNull String tag) {
+        if (!tagLevels.containsKey(tag)) {
+            return this;
+        }
+        Map<String, Integer> tagLevels = new HashMap<>(this.tagLevels);
+        tagLevels.remove(tag);
+        return new ConfigSnapshot(level, Collections.unmodifiableMap(tagLevels), recorderLevel, rateLimiters, sinks,
+                defaultTag);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+
+final class CrashHandler implements Thread.UncaughtExceptionHandler {
+    private final Thread.UncaughtExceptionHandler delegate;
+    private volatile File file;
+
+    CrashHandler(Thread.UncaughtExceptionHandler delegate, @NonNull File file) {
+        this.delegate = delegate;
+        this.file = file;
+    }
+
+    void setFile(@NonNull File file) {
+        this.file = file;
+    }
+
+    @Override
+    public void uncaughtException(@NonNull Thread thread, @NonNull Throwable throwable) {
+        try {
+            LogCompat.dumpFlightRecorder(file, thread, throwable);
+        } catch (IOException | RuntimeException e) {
+            ErrorReporter.report(this, "Unable to save the flight recorder to " + file, e);
+        } finally {
+            if (delegate != null) {
+                delegate.uncaughtException(thread, throwable);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+final class DuplicateFilter {
+    static final int SUPPRESSED = -1;
+
+    private final ConcurrentHashMap<String, Run[]> runs = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    DuplicateFilter(long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    int check(int priority, @NonNull String tag, String message) {
+        Run[] tagRuns = runs.get(tag);
+        if (tagRuns == null) {
+            tagRuns = new Run[Log.ASSERT + 1];
+            for (int i = 0; i < tagRuns.length; i++) {
+                tagRuns[i] = new Run(i, tag);
+            }
+            Run[] existing = runs.putIfAbsent(tag, tagRuns);
+            if (existing != null) {
+                tagRuns = existing;
+            }
+        }
+        return tagRuns[priority].check(message);
+    }
+
+    void flush() {
+        for (Run[] tagRuns : runs.values()) {
+            for (Run run : tagRuns) {
+                run.run();
+            }
+        }
+    }
+
+    @NonNull
+    static String repeatedMessage(int repeats) {
+        return repeats == 1 ? "last message repeated 1 time" : "last message repeated " + repeats + " times";
+    }
+
+    private final class Run implements Runnable {
+        private final int priority;
+        private final String tag;
+        private String message;
+        private int hash;
+        private int repeats;
+        private boolean scheduled;
+
+        private Run(int priority, @NonNull String tag) {
+            this.priority = priority;
+            this.tag = tag;
+        }
+
+        synchronized int check(String message) {
+            String last = this.message;
+            int hash = message != null ? message.hashCode() : 0;
+            if (message != null && last != null && hash == this.hash && message.length() == last.length()
+                    && (message == last || message.equals(last))) {
+                repeats++;
+                if (!scheduled) {
+                    scheduled = true;
+                    LogScheduler.schedule(this, timeoutMillis);
+                }
+                return SUPPRESSED;
+            }
+            int repeats = this.repeats;
+            this.message = message;
+            this.hash = hash;
+            this.repeats = 0;
+            return repeats;
+        }
+
+        @Override
+        public void run() {
+            int repeats;
+            synchronized (this) {
+                repeats = this.repeats;
+                this.repeats = 0;
+                scheduled = false;
+            }
+            if (repeats > 0) {
+                LogCompat.emit(priority, tag, repeatedMessage(repeats), null,
+                        System.currentTimeMillis(), Thread.currentThread().getId(), null, null);
+            }
+        }
+    }
+}
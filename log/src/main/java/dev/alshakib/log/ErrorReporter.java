@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+final class ErrorReporter {
+    static final long REPORT_INTERVAL_MILLIS = 60000;
+
+    private static final String TAG = "LogCompat";
+    private static final Map<Object, Report> REPORTS = new WeakHashMap<>();
+
+    private ErrorReporter() { }
+
+    static void report(@NonNull Object source, @NonNull String message, @NonNull Throwable throwable) {
+        long now = System.currentTimeMillis();
+        int suppressed;
+        synchronized (REPORTS) {
+            Report report = REPORTS.get(source);
+            if (report == null) {
+                report = new Report();
+                REPORTS.put(source, report);
+            } else if (now - report.reportedAt < REPORT_INTERVAL_MILLIS) {
+                report.suppressed++;
+                return;
+            }
+            suppressed = report.suppressed;
+            report.reportedAt = now;
+            report.suppressed = 0;
+        }
+        if (suppressed > 0) {
+            message += " (" + suppressed + " similar errors suppressed)";
+        }
+        Log.println(Log.WARN, TAG, message + '\n' + Log.getStackTraceString(throwable));
+    }
+
+    private static final class Report {
+        private long reportedAt;
+        private int suppressed;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.os.Process;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class FlightRecorder {
+    static final int MIN_SLOT_SIZE = 64;
+    static final int MAX_SLOT_SIZE = 65535;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int PRIORITY_OFFSET = 0;
+    private static final int TIMESTAMP_OFFSET = 1;
+    private static final int THREAD_ID_OFFSET = 9;
+    private static final int TAG_LENGTH_OFFSET = 17;
+    private static final int MESSAGE_LENGTH_OFFSET = 19;
+    private static final int HEADER_SIZE = 21;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder();
+        }
+    };
+
+    private final ByteBuffer buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong next = new AtomicLong();
+    private final int mask;
+    private final int slotSize;
+
+    FlightRecorder(int capacity, int slotSize) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (slotSize < MIN_SLOT_SIZE || slotSize > MAX_SLOT_SIZE) {
+            throw new IllegalArgumentException("Slot size must be between " + MIN_SLOT_SIZE + " and " + MAX_SLOT_SIZE);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.buffer = ByteBuffer.allocateDirect(size * slotSize);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.slotSize = slotSize;
+    }
+
+    void record(int priority, String tag, String message, LogFields fields, LogContext context, long timestamp,
+                long threadId) {
+        long sequence = next.getAndIncrement();
+        int slot = (int) (sequence & mask);
+        long busy = sequence * 2 + 1;
+        sequences.set(slot, busy);
+        int start = slot * slotSize;
+        int end = start + slotSize;
+        buffer.put(start + PRIORITY_OFFSET, (byte) priority);
+        buffer.putLong(start + TIMESTAMP_OFFSET, timestamp);
+        buffer.putLong(start + THREAD_ID_OFFSET, threadId);
+        int tagEnd = putUtf8(start + HEADER_SIZE, end, tag);
+        int messageEnd;
+        if (context != null || (fields != null && fields.size() > 0)) {
+            StringBuilder builder = BUILDER.get();
+            builder.setLength(0);
+            builder.append(message);
+            if (context != null) {
+                builder.append(' ');
+                context.appendTo(builder);
+            }
+            if (fields != null && fields.size() > 0) {
+                builder.append(' ');
+                fields.appendTo(builder);
+            }
+            messageEnd = putUtf8(tagEnd, end, builder);
+            if (builder.capacity() > slotSize * 2) {
+                BUILDER.remove();
+            }
+        } else {
+            messageEnd = putUtf8(tagEnd, end, message);
+        }
+        buffer.putShort(start + TAG_LENGTH_OFFSET, (short) (tagEnd - start - HEADER_SIZE));
+        buffer.putShort(start + MESSAGE_LENGTH_OFFSET, (short) (messageEnd - tagEnd));
+        sequences.compareAndSet(slot, busy, busy + 1);
+    }
+
+    synchronized void dump(@NonNull File file, Thread thread, Throwable throwable) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Unable to create " + parent);
+        }
+        TextRecordEncoder encoder = new TextRecordEncoder(Process.myPid());
+        LogRecord record = new LogRecord();
+        byte[] scratch = new byte[slotSize];
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            long last = next.get();
+            for (long sequence = Math.max(0, last - mask - 1); sequence < last; sequence++) {
+                if (read(sequence, record, scratch)) {
+                    out.write(encoder.bytes, 0, encoder.encode(record));
+                }
+            }
+            if (throwable != null) {
+                String name = thread != null ? thread.getName() : "unknown";
+                record.set(Log.ERROR, "AndroidRuntime", "FATAL EXCEPTION: " + name + "\n"
+                        + Log.getStackTraceString(throwable), null, System.currentTimeMillis(),
+                        thread != null ? thread.getId() : 0);
+                out.write(encoder.bytes, 0, encoder.encode(record));
+            }
+            out.getFD().sync();
+        }
+    }
+
+    private boolean read(long sequence, @NonNull LogRecord record, @NonNull byte[] scratch) {
+        int slot = (int) (sequence & mask);
+        long done = sequence * 2 + 2;
+        if (sequences.get(slot) != done) {
+            return false;
+        }
+        int start = slot * slotSize;
+        int priority = buffer.get(start + PRIORITY_OFFSET);
+        long timestamp = buffer.getLong(start + TIMESTAMP_OFFSET);
+        long threadId = buffer.getLong(start + THREAD_ID_OFFSET);
+        int tagLength = buffer.getShort(start + TAG_LENGTH_OFFSET) & 0xffff;
+        int messageLength = buffer.getShort(start + MESSAGE_LENGTH_OFFSET) & 0xffff;
+        if (HEADER_SIZE + tagLength + messageLength > slotSize) {
+            return false;
+        }
+        for (int i = 0; i < tagLength + messageLength; i++) {
+            scratch[i] = buffer.get(start + HEADER_SIZE + i);
+        }
+        if (sequences.get(slot) != done) {
+            return false;
+        }
+        record.set(priority, new String(scratch, 0, tagLength, UTF_8),
+                new String(scratch, tagLength, messageLength, UTF_8), null, timestamp, threadId);
+        return true;
+    }
+
+    private int putUtf8(int index, int limit, CharSequence value) {
+        if (value == null) {
+            value = "null";
+        }
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (index + 1 > limit) {
+                    break;
+                }
+                buffer.put(index++, (byte) c);
+            } else if (c < 0x800) {
+                if (index + 2 > limit) {
+                    break;
+                }
+                buffer.put(index++, (byte) (0xc0 | (c >> 6)));
+                buffer.put(index++, (byte) (0x80 | (c & 0x3f)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                if (index + 4 > limit) {
+                    break;
+                }
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put(index++, (byte) (0xf0 | (codePoint >> 18)));
+                buffer.put(index++, (byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+                buffer.put(index++, (byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+                buffer.put(index++, (byte) (0x80 | (codePoint & 0x3f)));
+            } else if (Character.isSurrogate(c)) {
+                if (index + 1 > limit) {
+                    break;
+                }
+                buffer.put(index++, (byte) '?');
+            } else {
+                if (index + 3 > limit) {
+                    break;
+                }
+                buffer.put(index++, (byte) (0xe0 | (c >> 12)));
+                buffer.put(index++, (byte) (0x80 | ((c >> 6) & 0x3f)));
+                buffer.put(index++, (byte) (0x80 | (c & 0x3f)));
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+final class JsonPrettyPrinter {
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+    private static final int INDENT = 4;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final int VALUE = 0;
+    private static final int KEY = 1;
+    private static final int AFTER_VALUE = 2;
+
+    private static final ThreadLocal<JsonPrettyPrinter> PRINTER = new ThreadLocal<JsonPrettyPrinter>() {
+        @Override
+        protected JsonPrettyPrinter initialValue() {
+            return new JsonPrettyPrinter();
+        }
+    };
+
+    private final StringBuilder builder = new StringBuilder();
+    private boolean[] objects = new boolean[16];
+    private String json;
+    private int position;
+    private int depth;
+    private int maxDepth;
+    private int maxLength;
+
+    private JsonPrettyPrinter() { }
+
+    @NonNull
+    static String prettyPrint(String json, int maxDepth, int maxLength) {
+        if (json == null) {
+            return "null";
+        }
+        JsonPrettyPrinter printer = PRINTER.get();
+        try {
+            return printer.format(json, maxDepth, maxLength) ? printer.builder.toString() : json;
+        } finally {
+            printer.json = null;
+            if (printer.builder.capacity() > MAX_RETAINED_CAPACITY) {
+                PRINTER.remove();
+            }
+        }
+    }
+
+    private boolean format(@NonNull String json, int maxDepth, int maxLength) {
+        this.json = json;
+        this.position = 0;
+        this.depth = 0;
+        this.maxDepth = maxDepth;
+        this.maxLength = maxLength;
+        builder.setLength(0);
+        builder.append(' ').append(LINE_SEPARATOR);
+        int length = json.length();
+        int state = VALUE;
+        for (;;) {
+            skipWhitespace();
+            if (builder.length() > maxLength) {
+                builder.setLength(maxLength);
+                while (builder.length() > 0 && Character.isWhitespace(builder.charAt(builder.length() - 1))) {
+                    builder.setLength(builder.length() - 1);
+                }
+                builder.append(LINE_SEPARATOR).append("... (truncated)");
+                return true;
+            }
+            if (state == AFTER_VALUE && depth == 0) {
+                return position == length;
+            }
+            if (position == length) {
+                return false;
+            }
+            char c = json.charAt(position);
+            if (state == VALUE) {
+                if (c == '{' || c == '[') {
+                    position++;
+                    state = open(c == '{');
+                } else if (c == '"') {
+                    if (!string()) {
+                        return false;
+                    }
+                    state = AFTER_VALUE;
+                } else if (c == 't' || c == 'f' || c == 'n') {
+                    if (!literal()) {
+                        return false;
+                    }
+                    state = AFTER_VALUE;
+                } else if (c == '-' || (c >= '0' && c <= '9')) {
+                    if (!number()) {
+                        return false;
+                    }
+                    state = AFTER_VALUE;
+                } else {
+                    return false;
+                }
+            } else if (state == KEY) {
+                if (c != '"' || !string()) {
+                    return false;
+                }
+                skipWhitespace();
+                if (position == length || json.charAt(position) != ':') {
+                    return false;
+                }
+                position++;
+                if (isVisible()) {
+                    builder.append(": ");
+                }
+                state = VALUE;
+            } else {
+                boolean object = objects[depth - 1];
+                if (c == ',') {
+                    position++;
+                    if (isVisible()) {
+                        builder.append(',');
+                    }
+                    newLine(depth);
+                    state = object ? KEY : VALUE;
+                } else if (c == (object ? '}' : ']')) {
+                    position++;
+                    depth--;
+                    if (depth < maxDepth) {
+                        newLine(depth);
+                        builder.append(c);
+                    }
+                } else {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private int open(boolean object) {
+        char close = object ? '}' : ']';
+        skipWhitespace();
+        if (position < json.length() && json.charAt(position) == close) {
+            position++;
+            if (isVisible()) {
+                builder.append(object ? '{' : '[').append(close);
+            }
+            return AFTER_VALUE;
+        }
+        if (depth == objects.length) {
+            boolean[] grown = new boolean[depth * 2];
+            System.arraycopy(objects, 0, grown, 0, depth);
+            objects = grown;
+        }
+        if (depth == maxDepth) {
+            builder.append(object ? '{' : '[').append("...").append(close);
+        } else if (depth < maxDepth) {
+            builder.append(object ? '{' : '[');
+        }
+        objects[depth++] = object;
+        newLine(depth);
+        return object ? KEY : VALUE;
+    }
+
+    private boolean string() {
+        int start = position++;
+        int length = json.length();
+        while (position < length) {
+            char c = json.charAt(position++);
+            if (c == '"') {
+                if (isVisible()) {
+                    builder.append(json, start, position);
+                }
+                return true;
+            } else if (c == '\\') {
+                if (position == length) {
+                    return false;
+                }
+                char escape = json.charAt(position++);
+                if (escape == 'u') {
+                    for (int i = 0; i < 4; i++) {
+                        if (position == length || Character.digit(json.charAt(position++), 16) < 0) {
+                            return false;
+                        }
+                    }
+                } else if ("\"\\/bfnrt".indexOf(escape) < 0) {
+                    return false;
+                }
+            } else if (c < 0x20) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private boolean literal() {
+        String literal = json.charAt(position) == 't' ? "true" : json.charAt(position) == 'f' ? "false" : "null";
+        if (!json.startsWith(literal, position)) {
+            return false;
+        }
+        position += literal.length();
+        if (isVisible()) {
+            builder.append(literal);
+        }
+        return true;
+    }
+
+    private boolean number() {
+        int start = position;
+        if (json.charAt(position) == '-') {
+            position++;
+        }
+        if (digits() == 0) {
+            return false;
+        }
+        if (position < json.length() && json.charAt(position) == '.') {
+            position++;
+            if (digits() == 0) {
+                return false;
+            }
+        }
+        if (position < json.length() && (json.charAt(position) == 'e' || json.charAt(position) == 'E')) {
+            position++;
+            if (position < json.length() && (json.charAt(position) == '+' || json.charAt(position) == '-')) {
+                position++;
+            }
+            if (digits() == 0) {
+                return false;
+            }
+        }
+        if (isVisible()) {
+            builder.append(json, start, position);
+        }
+        return true;
+    }
+
+    private int digits() {
+        int start = position;
+        while (position < json.length() && json.charAt(position) >= '0' && json.charAt(position) <= '9') {
+            position++;
+        }
+        return position - start;
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length()) {
+            char c = json.charAt(position);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private void newLine(int indent) {
+        if (indent <= maxDepth) {
+            builder.append(LINE_SEPARATOR);
+            for (int i = indent * INDENT; i > 0; i--) {
+                builder.append(' ');
+            }
+        }
+    }
+
+    private boolean isVisible() {
+        return depth <= maxDepth;
+    }
+}
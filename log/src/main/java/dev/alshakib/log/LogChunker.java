@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+final class LogChunker {
+    // LOGGER_ENTRY_MAX_PAYLOAD is 4068 bytes including the priority, tag and terminators
+    static final int MAX_PAYLOAD_BYTES = 4000;
+    private static final int MAX_CHUNK_BYTES = MAX_PAYLOAD_BYTES - 16;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(MAX_PAYLOAD_BYTES);
+        }
+    };
+
+    private static final Output LOGCAT = Log::println;
+
+    private LogChunker() { }
+
+    static void println(int priority, String tag, String message) {
+        println(priority, tag, message, LOGCAT);
+    }
+
+    static void println(int priority, String tag, String message, @NonNull Output output) {
+        if (message == null || message.length() * 3 <= MAX_PAYLOAD_BYTES
+                || Utf8.length(message) <= MAX_PAYLOAD_BYTES) {
+            output.println(priority, tag, message);
+            return;
+        }
+        int count = 0;
+        for (int start = 0; start < message.length(); start = nextStart(message, nextEnd(message, start))) {
+            count++;
+        }
+        StringBuilder builder = BUILDER.get();
+        int index = 0;
+        for (int start = 0; start < message.length(); ) {
+            int end = nextEnd(message, start);
+            builder.setLength(0);
+            builder.append('[').append(++index).append('/').append(count).append("] ")
+                    .append(message, start, end);
+            output.println(priority, tag, builder.toString());
+            start = nextStart(message, end);
+        }
+        if (builder.capacity() > MAX_PAYLOAD_BYTES * 2) {
+            BUILDER.remove();
+        }
+    }
+
+    private static int nextEnd(@NonNull CharSequence message, int start) {
+        int length = message.length();
+        int size = 0;
+        int lineEnd = -1;
+        int end = start;
+        while (end < length) {
+            char c = message.charAt(end);
+            int width = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isSurrogate(c) ? 2 : 3;
+            if (size + width > MAX_CHUNK_BYTES) {
+                break;
+            }
+            if (c == '\n') {
+                lineEnd = end;
+            }
+            size += width;
+            end++;
+        }
+        if (end == length) {
+            return end;
+        }
+        if (lineEnd > start) {
+            return lineEnd;
+        }
+        if (Character.isLowSurrogate(message.charAt(end)) && end - 1 > start) {
+            return end - 1;
+        }
+        return end;
+    }
+
+    private static int nextStart(@NonNull CharSequence message, int end) {
+        return end < message.length() && message.charAt(end) == '\n' ? end + 1 : end;
+    }
+
+    interface Output {
+        void println(int priority, String tag, String message);
+    }
+}
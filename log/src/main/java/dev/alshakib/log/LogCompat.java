@@ -31,661 +31,2795 @@ import android.util.Log;
 
 import androidx.annotation.NonNull;
 
-import org.json.JSONException;
-import org.json.JSONObject;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public final class LogCompat {
-    private static String DEFAULT_LOG_TAG = "LogCompat";
+    private static final ThreadLocal<StringBuilder> BUILDER = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder();
+        }
+    };
+    private static final ThreadLocal<LogRecord> RECORD = new ThreadLocal<LogRecord>() {
+        @Override
+        protected LogRecord initialValue() {
+            return new LogRecord();
+        }
+    };
 
-    public static void setDefaultLogTag(String tag) {
-        DEFAULT_LOG_TAG = tag;
-    }
+    private static volatile ConfigSnapshot snapshot = ConfigSnapshot.DEFAULT;
+    private static volatile AsyncDispatcher asyncDispatcher;
+    private static volatile FlightRecorder flightRecorder;
+    private static volatile DuplicateFilter duplicateFilter;
+    private static volatile LogMetrics metrics;
+    private static volatile CallerLocation callerLocation;
+    private static volatile SpanTrace spanTrace;
+    private static volatile long spanThresholdNanos;
+    private static CrashHandler crashHandler;
+    private static int maxBatchSize = 1;
+    private static long batchLingerMillis;
+    private static volatile int jsonMaxDepth = Integer.MAX_VALUE;
+    private static volatile int jsonMaxLength = Integer.MAX_VALUE;
+    private static volatile long traceFoldingWindowMillis = 10000;
+    private static final Map<String, LogSink> NAMED_SINKS = new HashMap<>();
+    private static File configFile;
+    private static long configModified;
+    private static long configLength;
+    private static ScheduledFuture<?> configWatcher;
 
-    private static String prettyPrint(String message) {
-        try {
-            return " " + System.getProperty("line.separator") + new JSONObject(message).toString(4);
-        } catch (JSONException e) {
-            return "Invalid JSON object: " + message;
-        }
+    static {
+        NAMED_SINKS.put("logcat", ConfigSnapshot.DEFAULT.getSinks()[0]);
     }
 
-    public static void info(@NonNull String tag, String message) {
-        Log.i(tag, message);
+    public static synchronized void setDefaultLogTag(String tag) {
+        snapshot = snapshot.withDefaultTag(tag);
     }
 
-    public static void debug(@NonNull String tag, String message) {
-        Log.d(tag, message);
+    public static synchronized void setLogLevel(int priority) {
+        snapshot = snapshot.withLevel(priority);
     }
 
-    public static void warning(@NonNull String tag, String message) {
-        Log.w(tag, message);
+    public static synchronized void setLogLevel(@NonNull String tag, int priority) {
+        snapshot = snapshot.withTagLevel(tag, priority);
     }
 
-    public static void error(@NonNull String tag, String message) {
-        Log.e(tag, message);
+    public static synchronized void clearLogLevel(@NonNull String tag) {
+        snapshot = snapshot.withoutTagLevel(tag);
     }
 
-    public static void verbose(@NonNull String tag, String message) {
-        Log.v(tag, message);
+    public static synchronized void clearLogLevels() {
+        snapshot = snapshot.withoutLevels();
     }
 
-    public static void info(@NonNull Class<?> tag, String message) {
-        info(tag.getSimpleName(), message);
+    public static boolean isLoggable(@NonNull String tag, int priority) {
+        return snapshot.isLoggable(tag, priority);
     }
 
-    public static void debug(@NonNull Class<?> tag, String message) {
-        debug(tag.getSimpleName(), message);
+    public static synchronized void enableAsync(int capacity, @NonNull OverflowPolicy policy) {
+        AsyncDispatcher previous = asyncDispatcher;
+        AsyncDispatcher dispatcher = new AsyncDispatcher(capacity, policy);
+        dispatcher.setBatching(maxBatchSize, batchLingerMillis);
+        asyncDispatcher = dispatcher;
+        if (previous != null) {
+            previous.shutdown();
+        }
     }
 
-    public static void warning(@NonNull Class<?> tag, String message) {
-        warning(tag.getSimpleName(), message);
+    public static synchronized void setBatching(int maxBatchSize, long lingerMillis) {
+        AsyncDispatcher dispatcher = asyncDispatcher;
+        if (dispatcher != null) {
+            dispatcher.setBatching(maxBatchSize, lingerMillis);
+        } else if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + maxBatchSize);
+        }
+        LogCompat.maxBatchSize = maxBatchSize;
+        LogCompat.batchLingerMillis = lingerMillis;
+    }
+
+    @NonNull
+    public static BatchStats getBatchStats() {
+        long batchCount = 0;
+        long recordCount = 0;
+        int largestBatchSize = 0;
+        for (LogSink sink : snapshot.getSinks()) {
+            if (sink instanceof LogcatSink) {
+                BatchStats stats = ((LogcatSink) sink).getBatchStats();
+                batchCount += stats.getBatchCount();
+                recordCount += stats.getRecordCount();
+                largestBatchSize = Math.max(largestBatchSize, stats.getLargestBatchSize());
+            }
+        }
+        return new BatchStats(batchCount, recordCount, largestBatchSize);
     }
 
-    public static void error(@NonNull Class<?> tag, String message) {
-        error(tag.getSimpleName(), message);
+    public static void flush() {
+        DuplicateFilter duplicates = duplicateFilter;
+        if (duplicates != null) {
+            duplicates.flush();
+        }
+        AsyncDispatcher dispatcher = asyncDispatcher;
+        if (dispatcher != null) {
+            dispatcher.flush();
+        }
+        for (LogSink sink : snapshot.getSinks()) {
+            sink.flush();
+        }
     }
 
-    public static void verbose(@NonNull Class<?> tag, String message) {
-        verbose(tag.getSimpleName(), message);
+    public static synchronized void shutdown() {
+        AsyncDispatcher dispatcher = asyncDispatcher;
+        if (dispatcher != null) {
+            asyncDispatcher = null;
+            dispatcher.shutdown();
+        }
     }
 
-    public static void info(@NonNull Object tag, String message) {
-        info(tag.getClass(), message);
+    public static void setJsonLimits(int maxDepth, int maxLength) {
+        if (maxDepth < 0 || maxLength < 0) {
+            throw new IllegalArgumentException("JSON limits must not be negative");
+        }
+        jsonMaxDepth = maxDepth;
+        jsonMaxLength = maxLength;
     }
 
-    public static void debug(@NonNull Object tag, String message) {
-        debug(tag.getClass(), message);
+    public static void setTraceFoldingWindow(long windowMillis) {
+        if (windowMillis < 0) {
+            throw new IllegalArgumentException("Trace folding window must not be negative");
+        }
+        traceFoldingWindowMillis = windowMillis;
+    }
+
+    public static synchronized void addSink(@NonNull LogSink sink) {
+        LogSink[] current = snapshot.getSinks();
+        LogSink[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = sink;
+        snapshot = snapshot.withSinks(updated);
+    }
+
+    public static synchronized void removeSink(@NonNull LogSink sink) {
+        LogSink[] current = snapshot.getSinks();
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == sink) {
+                LogSink[] updated = new LogSink[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                snapshot = snapshot.withSinks(updated);
+                return;
+            }
+        }
     }
 
-    public static void warning(@NonNull Object tag, String message) {
-        warning(tag.getClass(), message);
+    public static synchronized void setSinks(@NonNull LogSink... sinks) {
+        snapshot = snapshot.withSinks(sinks.clone());
     }
 
-    public static void error(@NonNull Object tag, String message) {
-        error(tag.getClass(), message);
+    @NonNull
+    public static LogSink[] getSinks() {
+        return snapshot.getSinks().clone();
     }
 
-    public static void verbose(@NonNull Object tag, String message) {
-        verbose(tag.getClass(), message);
+    public static synchronized void registerSink(@NonNull String name, @NonNull LogSink sink) {
+        NAMED_SINKS.put(name, sink);
     }
 
-    public static void info(String message) {
-        info(DEFAULT_LOG_TAG, message);
+    public static synchronized void unregisterSink(@NonNull String name) {
+        NAMED_SINKS.remove(name);
     }
 
-    public static void debug(String message) {
-        debug(DEFAULT_LOG_TAG, message);
+    public static synchronized void applyConfig(@NonNull LogConfig config) {
+        LogSink[] sinks = snapshot.getSinks();
+        List<String> sinkNames = config.getSinkNames();
+        if (sinkNames != null) {
+            sinks = new LogSink[sinkNames.size()];
+            for (int i = 0; i < sinks.length; i++) {
+                sinks[i] = NAMED_SINKS.get(sinkNames.get(i));
+                if (sinks[i] == null) {
+                    throw new IllegalArgumentException("Unknown sink: " + sinkNames.get(i));
+                }
+            }
+        }
+        snapshot = snapshot.withConfig(config, sinks);
     }
 
-    public static void warning(String message) {
-        warning(DEFAULT_LOG_TAG, message);
+    public static synchronized void loadConfig(@NonNull File file) throws IOException {
+        long modified = file.lastModified();
+        long length = file.length();
+        applyConfig(LogConfig.load(file));
+        configFile = file;
+        configModified = modified;
+        configLength = length;
     }
 
-    public static void error(String message) {
-        error(DEFAULT_LOG_TAG, message);
+    public static synchronized void reloadConfig() throws IOException {
+        if (configFile == null) {
+            throw new IllegalStateException("No configuration file has been loaded");
+        }
+        loadConfig(configFile);
     }
 
-    public static void verbose(String message) {
-        verbose(DEFAULT_LOG_TAG, message);
+    public static synchronized void watchConfig(@NonNull File file, long intervalMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("Watch interval must be positive: " + intervalMillis);
+        }
+        stopWatchingConfig();
+        configFile = file;
+        configModified = 0;
+        configLength = -1;
+        checkConfig();
+        configWatcher = LogScheduler.scheduleWithFixedDelay(LogCompat::checkConfig, intervalMillis);
+    }
+
+    public static synchronized void stopWatchingConfig() {
+        if (configWatcher != null) {
+            configWatcher.cancel(false);
+            configWatcher = null;
+        }
     }
 
-    public static void info(@NonNull String tag, Exception exception) {
-        if (exception != null) {
-            info(tag, exception.getLocalizedMessage());
-        } else {
-            info(tag, "Exception is null");
+    private static synchronized void checkConfig() {
+        File file = configFile;
+        if (file == null || !file.isFile()
+                || (file.lastModified() == configModified && file.length() == configLength)) {
+            return;
+        }
+        try {
+            loadConfig(file);
+        } catch (IOException | IllegalArgumentException e) {
+            configModified = file.lastModified();
+            configLength = file.length();
+            println(Log.WARN, "LogCompat", "Unable to load " + file + ": " + e.getMessage());
         }
     }
 
-    public static void debug(@NonNull String tag, Exception exception) {
-        if (exception != null) {
-            debug(tag, exception.getLocalizedMessage());
+    public static synchronized void enableFlightRecorder(int capacity, int slotSize, int minPriority) {
+        flightRecorder = new FlightRecorder(capacity, slotSize);
+        snapshot = snapshot.withRecorderLevel(minPriority);
+    }
+
+    public static synchronized void disableFlightRecorder() {
+        snapshot = snapshot.withRecorderLevel(ConfigSnapshot.RECORDER_DISABLED);
+        flightRecorder = null;
+    }
+
+    public static void dumpFlightRecorder(@NonNull File file) throws IOException {
+        dumpFlightRecorder(file, null, null);
+    }
+
+    public static synchronized void installCrashHandler(@NonNull File file) {
+        if (crashHandler == null) {
+            crashHandler = new CrashHandler(Thread.getDefaultUncaughtExceptionHandler(), file);
+            Thread.setDefaultUncaughtExceptionHandler(crashHandler);
         } else {
-            debug(tag, "Exception is null");
+            crashHandler.setFile(file);
         }
     }
 
-    public static void warning(@NonNull String tag, Exception exception) {
-        if (exception != null) {
-            warning(tag, exception.getLocalizedMessage());
-        } else {
-            warning(tag, "Exception is null");
+    static void dumpFlightRecorder(@NonNull File file, Thread thread, Throwable throwable) throws IOException {
+        FlightRecorder recorder = flightRecorder;
+        if (recorder == null) {
+            throw new IllegalStateException("Flight recorder is not enabled");
         }
+        recorder.dump(file, thread, throwable);
     }
 
-    public static void error(@NonNull String tag, Exception exception) {
-        if (exception != null) {
-            error(tag, exception.getLocalizedMessage());
-        } else {
-            error(tag, "Exception is null");
+    public static synchronized void enableDuplicateSuppression(long timeoutMillis) {
+        DuplicateFilter previous = duplicateFilter;
+        duplicateFilter = new DuplicateFilter(timeoutMillis);
+        if (previous != null) {
+            previous.flush();
         }
     }
 
-    public static void verbose(@NonNull String tag, Exception exception) {
-        if (exception != null) {
-            verbose(tag, exception.getLocalizedMessage());
-        } else {
-            verbose(tag, "Exception is null");
+    public static synchronized void disableDuplicateSuppression() {
+        DuplicateFilter previous = duplicateFilter;
+        duplicateFilter = null;
+        if (previous != null) {
+            previous.flush();
         }
     }
 
-    public static void info(@NonNull Class<?> tag, Exception exception) {
-        info(tag.getSimpleName(), exception);
+    public static void setRateLimit(@NonNull String tag, int priority, int recordsPerSecond, int burst) {
+        setRateLimit(tag, priority, recordsPerSecond, burst, 0);
     }
 
-    public static void debug(@NonNull Class<?> tag, Exception exception) {
-        debug(tag.getSimpleName(), exception);
+    public static synchronized void setRateLimit(@NonNull String tag, int priority, int recordsPerSecond, int burst,
+                                                 int sampleRate) {
+        checkRateLimitPriority(priority);
+        RateLimiter limiter = new RateLimiter(priority, tag, recordsPerSecond, burst, sampleRate);
+        snapshot = snapshot.withRateLimiter(tag, priority, limiter);
     }
 
-    public static void warning(@NonNull Class<?> tag, Exception exception) {
-        warning(tag.getSimpleName(), exception);
+    public static synchronized void clearRateLimit(@NonNull String tag, int priority) {
+        checkRateLimitPriority(priority);
+        snapshot = snapshot.withRateLimiter(tag, priority, null);
     }
 
-    public static void error(@NonNull Class<?> tag, Exception exception) {
-        error(tag.getSimpleName(), exception);
+    private static void checkRateLimitPriority(int priority) {
+        if (priority < Log.VERBOSE || priority > Log.ASSERT) {
+            throw new IllegalArgumentException("Rate limit priority must be VERBOSE to ASSERT: " + priority);
+        }
     }
 
-    public static void verbose(@NonNull Class<?> tag, Exception exception) {
-        verbose(tag.getSimpleName(), exception);
+    public static synchronized void clearRateLimits() {
+        snapshot = snapshot.withoutRateLimiters();
     }
 
-    public static void info(@NonNull Object tag, Exception exception) {
-        info(tag.getClass(), exception);
+    public static void setLocationMode(@NonNull LocationMode mode) {
+        setLocationMode(mode, CallerLocation.DEFAULT_SAMPLE_RATE);
     }
 
-    public static void debug(@NonNull Object tag, Exception exception) {
-        debug(tag.getClass(), exception);
+    public static synchronized void setLocationMode(@NonNull LocationMode mode, int sampleRate) {
+        callerLocation = mode != LocationMode.OFF ? new CallerLocation(mode, sampleRate) : null;
     }
 
-    public static void warning(@NonNull Object tag, Exception exception) {
-        warning(tag.getClass(), exception);
+    public static void setSpanThreshold(long threshold, @NonNull TimeUnit unit) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Span threshold must not be negative");
+        }
+        spanThresholdNanos = unit.toNanos(threshold);
     }
 
-    public static void error(@NonNull Object tag, Exception exception) {
-        error(tag.getClass(), exception);
+    public static synchronized void enableSpanTrace(int capacity) {
+        spanTrace = new SpanTrace(capacity);
     }
 
-    public static void verbose(@NonNull Object tag, Exception exception) {
-        verbose(tag.getClass(), exception);
+    public static synchronized void disableSpanTrace() {
+        spanTrace = null;
     }
 
-    public static void info(Exception exception) {
-        info(DEFAULT_LOG_TAG, exception);
+    public static void writeSpanTrace(@NonNull File file) throws IOException {
+        SpanTrace trace = spanTrace;
+        if (trace == null) {
+            throw new IllegalStateException("Span trace is not enabled");
+        }
+        trace.write(file);
     }
 
-    public static void debug(Exception exception) {
-        debug(DEFAULT_LOG_TAG, exception);
+    @NonNull
+    public static Span span(@NonNull String tag, @NonNull String name) {
+        return openSpan(tag, name);
     }
 
-    public static void warning(Exception exception) {
-        warning(DEFAULT_LOG_TAG, exception);
+    @NonNull
+    public static Span span(@NonNull Class<?> tag, @NonNull String name) {
+        return openSpan(TagCache.get(tag), name);
     }
 
-    public static void error(Exception exception) {
-        error(DEFAULT_LOG_TAG, exception);
+    @NonNull
+    public static Span span(@NonNull Object tag, @NonNull String name) {
+        return openSpan(TagCache.get(tag.getClass()), name);
     }
 
-    public static void verbose(Exception exception) {
-        verbose(DEFAULT_LOG_TAG, exception);
+    @NonNull
+    public static Span span(@NonNull String name) {
+        return openSpan(defaultTag(), name);
     }
 
-    public static void info(@NonNull String tag, Object object) {
-        if (object != null) {
-            info(tag, object.toString());
-        } else {
-            info(tag, "Object is null");
+    public static synchronized void enableMetrics() {
+        if (metrics == null) {
+            metrics = new LogMetrics();
         }
     }
 
-    public static void debug(@NonNull String tag, Object object) {
-        if (object != null) {
-            debug(tag, object.toString());
-        } else {
-            debug(tag, "Object is null");
-        }
+    public static synchronized void disableMetrics() {
+        metrics = null;
     }
 
-    public static void warning(@NonNull String tag, Object object) {
-        if (object != null) {
-            warning(tag, object.toString());
-        } else {
-            warning(tag, "Object is null");
-        }
+    @NonNull
+    public static LogStats stats() {
+        LogMetrics current = metrics;
+        return current != null ? current.snapshot() : new LogMetrics().snapshot();
     }
 
-    public static void error(@NonNull String tag, Object object) {
-        if (object != null) {
-            error(tag, object.toString());
-        } else {
-            error(tag, "Object is null");
-        }
+    static LogMetrics getMetrics() {
+        return metrics;
     }
 
-    public static void verbose(@NonNull String tag, Object object) {
-        if (object != null) {
-            verbose(tag, object.toString());
-        } else {
-            verbose(tag, "Object is null");
+    static void recordDropped(int priority, String tag) {
+        LogMetrics current = metrics;
+        if (current != null) {
+            current.dropped(priority, tag);
         }
     }
 
-    public static void info(@NonNull Class<?> tag, Object object) {
-        info(tag.getSimpleName(), object);
+    static boolean isUnderPressure() {
+        AsyncDispatcher dispatcher = asyncDispatcher;
+        return dispatcher != null && dispatcher.isUnderPressure();
     }
 
-    public static void debug(@NonNull Class<?> tag, Object object) {
-        debug(tag.getSimpleName(), object);
+    static ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
 
-    public static void warning(@NonNull Class<?> tag, Object object) {
-        warning(tag.getSimpleName(), object);
+    @NonNull
+    public static Logger logger(@NonNull String tag) {
+        return new Logger(tag);
     }
 
-    public static void error(@NonNull Class<?> tag, Object object) {
-        error(tag.getSimpleName(), object);
+    @NonNull
+    public static Logger logger(@NonNull Class<?> tag) {
+        return new Logger(TagCache.get(tag));
     }
 
-    public static void verbose(@NonNull Class<?> tag, Object object) {
-        verbose(tag.getSimpleName(), object);
+    private static String prettyPrint(String message) {
+        return JsonPrettyPrinter.prettyPrint(message, jsonMaxDepth, jsonMaxLength);
     }
 
-    public static void info(@NonNull Object tag, Object object) {
-        info(tag.getClass(), object);
+    static void println(int priority, String tag, String message) {
+        println(priority, tag, message, null);
     }
 
-    public static void debug(@NonNull Object tag, Object object) {
-        debug(tag.getClass(), object);
+    static void println(int priority, String tag, String message, Throwable throwable) {
+        println(priority, tag, message, throwable, null);
     }
 
-    public static void warning(@NonNull Object tag, Object object) {
-        warning(tag.getClass(), object);
+    static void println(int priority, String tag, String message, Throwable throwable, LogFields fields) {
+        CallerLocation locations = callerLocation;
+        if (locations != null) {
+            message = locations.apply(message);
+        }
+        long timestamp = System.currentTimeMillis();
+        long threadId = Thread.currentThread().getId();
+        LogContext context = LogContext.current();
+        ConfigSnapshot filter = snapshot;
+        if (filter.isRecordable(priority)) {
+            FlightRecorder recorder = flightRecorder;
+            if (recorder != null) {
+                recorder.record(priority, tag, message, fields, context, timestamp, threadId);
+            }
+            if (!filter.isSinkLoggable(tag, priority)) {
+                recordFiltered(priority, tag);
+                return;
+            }
+        }
+        DuplicateFilter duplicates = duplicateFilter;
+        if (duplicates != null && tag != null) {
+            int repeats = duplicates.check(priority, tag, throwable == null && fields == null && context == null ? message : null);
+            if (repeats == DuplicateFilter.SUPPRESSED) {
+                recordFiltered(priority, tag);
+                return;
+            }
+            if (repeats > 0) {
+                emit(priority, tag, DuplicateFilter.repeatedMessage(repeats), null, timestamp, threadId, null, null);
+            }
+        }
+        if (emit(priority, tag, message, throwable, timestamp, threadId, fields, context)) {
+            LogMetrics current = metrics;
+            if (current != null) {
+                current.recorded(priority, tag, message);
+            }
+        }
     }
 
-    public static void error(@NonNull Object tag, Object object) {
-        error(tag.getClass(), object);
+    private static void recordFiltered(int priority, String tag) {
+        LogMetrics current = metrics;
+        if (current != null) {
+            current.filtered(priority, tag);
+        }
     }
 
-    public static void verbose(@NonNull Object tag, Object object) {
-        verbose(tag.getClass(), object);
+    static boolean emit(int priority, String tag, String message, Throwable throwable, long timestamp, long threadId,
+                        LogFields fields, LogContext context) {
+        AsyncDispatcher dispatcher = asyncDispatcher;
+        int result = dispatcher != null
+                ? dispatcher.publish(priority, tag, message, throwable, timestamp, threadId, fields, context)
+                : AsyncDispatcher.REJECTED;
+        if (result == AsyncDispatcher.REJECTED) {
+            LogRecord record = RECORD.get();
+            if (record.inUse) {
+                record = new LogRecord();
+            }
+            record.inUse = true;
+            try {
+                record.set(priority, tag, message, throwable, timestamp, threadId, fields, context);
+                dispatch(record);
+            } finally {
+                record.clear();
+                record.inUse = false;
+            }
+        }
+        return result != AsyncDispatcher.DROPPED;
     }
 
-    public static void info(Object object) {
-        info(DEFAULT_LOG_TAG, object);
+    static void dispatch(@NonNull LogRecord record) {
+        for (LogSink sink : snapshot.getSinks()) {
+            try {
+                sink.write(record);
+            } catch (RuntimeException e) {
+                ErrorReporter.report(sink, "Log sink " + sink.getClass().getName() + " failed", e);
+            }
+        }
     }
 
-    public static void debug(Object object) {
-        debug(DEFAULT_LOG_TAG, object);
+    static void dispatch(@NonNull LogRecord[] records, int count) {
+        for (LogSink sink : snapshot.getSinks()) {
+            try {
+                sink.write(records, count);
+            } catch (RuntimeException e) {
+                ErrorReporter.report(sink, "Log sink " + sink.getClass().getName() + " failed", e);
+            }
+        }
     }
 
-    public static void warning(Object object) {
-        warning(DEFAULT_LOG_TAG, object);
+    static void locate(LogSite site) {
+        CallerLocation locations = callerLocation;
+        if (locations != null) {
+            locations.begin(site);
+        }
     }
 
-    public static void error(Object object) {
-        error(DEFAULT_LOG_TAG, object);
+    static void printMessage(int priority, String tag, String message) {
+        printMessage(priority, null, tag, message);
     }
 
-    public static void verbose(Object object) {
-        verbose(DEFAULT_LOG_TAG, object);
+    static void printMessage(int priority, LogSite site, String tag, String message) {
+        locate(site);
+        println(priority, tag, message);
     }
 
-    public static void info(@NonNull String tag, String message, boolean json) {
-        if (json) {
-            info(tag, prettyPrint(message));
-        } else {
-            info(tag, message);
-        }
+    static void printMessage(int priority, String tag, String message, boolean json) {
+        printMessage(priority, null, tag, message, json);
     }
 
-    public static void debug(@NonNull String tag, String message, boolean json) {
-        if (json) {
-            debug(tag, prettyPrint(message));
-        } else {
-            debug(tag, message);
-        }
+    static void printMessage(int priority, LogSite site, String tag, String message, boolean json) {
+        locate(site);
+        println(priority, tag, json ? prettyPrint(message) : message);
     }
 
-    public static void warning(@NonNull String tag, String message, boolean json) {
-        if (json) {
-            warning(tag, prettyPrint(message));
-        } else {
-            warning(tag, message);
-        }
+    static void printThrowable(int priority, String tag, Throwable throwable) {
+        printThrowable(priority, null, tag, throwable);
     }
 
-    public static void error(@NonNull String tag, String message, boolean json) {
-        if (json) {
-            error(tag, prettyPrint(message));
+    static void printThrowable(int priority, LogSite site, String tag, Throwable throwable) {
+        locate(site);
+        if (throwable != null) {
+            println(priority, tag, ThrowableRenderer.render(throwable, traceFoldingWindowMillis), throwable);
         } else {
-            error(tag, message);
+            println(priority, tag, "Throwable is null");
         }
     }
 
-    public static void verbose(@NonNull String tag, String message, boolean json) {
-        if (json) {
-            verbose(tag, prettyPrint(message));
-        } else {
-            verbose(tag, message);
-        }
+    static void printException(int priority, String tag, Exception exception, boolean json) {
+        printException(priority, null, tag, exception, json);
     }
 
-    public static void info(@NonNull Class<?> tag, String message, boolean json) {
-        if (json) {
-            info(tag, prettyPrint(message));
+    static void printException(int priority, LogSite site, String tag, Exception exception, boolean json) {
+        locate(site);
+        if (exception == null) {
+            println(priority, tag, "Exception is null");
+        } else if (json) {
+            println(priority, tag, prettyPrint(exception.getLocalizedMessage()), exception);
         } else {
-            info(tag, message);
+            println(priority, tag, ThrowableRenderer.render(exception, traceFoldingWindowMillis), exception);
         }
     }
 
-    public static void debug(@NonNull Class<?> tag, String message, boolean json) {
-        if (json) {
-            debug(tag, prettyPrint(message));
-        } else {
-            debug(tag, message);
-        }
+    static void printObject(int priority, String tag, Object object) {
+        printObject(priority, null, tag, object);
     }
 
-    public static void warning(@NonNull Class<?> tag, String message, boolean json) {
-        if (json) {
-            warning(tag, prettyPrint(message));
+    static void printObject(int priority, LogSite site, String tag, Object object) {
+        locate(site);
+        if (object != null) {
+            println(priority, tag, object.toString());
         } else {
-            warning(tag, message);
+            println(priority, tag, "Object is null");
         }
     }
 
-    public static void error(@NonNull Class<?> tag, String message, boolean json) {
-        if (json) {
-            error(tag, prettyPrint(message));
-        } else {
-            error(tag, message);
-        }
+    static void printObject(int priority, String tag, Object object, boolean json) {
+        printObject(priority, null, tag, object, json);
     }
 
-    public static void verbose(@NonNull Class<?> tag, String message, boolean json) {
-        if (json) {
-            verbose(tag, prettyPrint(message));
+    static void printObject(int priority, LogSite site, String tag, Object object, boolean json) {
+        locate(site);
+        if (object != null) {
+            String message = object.toString();
+            println(priority, tag, json ? prettyPrint(message) : message);
         } else {
-            verbose(tag, message);
+            println(priority, tag, "Object is null");
         }
     }
 
-    public static void info(@NonNull Object tag, String message, boolean json) {
-        if (json) {
-            info(tag, prettyPrint(message));
-        } else {
-            info(tag, message);
-        }
+    static void printSupplier(int priority, String tag, MessageSupplier supplier) {
+        printSupplier(priority, null, tag, supplier);
     }
 
-    public static void debug(@NonNull Object tag, String message, boolean json) {
-        if (json) {
-            debug(tag, prettyPrint(message));
+    static void printSupplier(int priority, LogSite site, String tag, MessageSupplier supplier) {
+        locate(site);
+        if (supplier != null) {
+            println(priority, tag, supplier.get());
         } else {
-            debug(tag, message);
+            println(priority, tag, "Supplier is null");
         }
     }
 
-    public static void warning(@NonNull Object tag, String message, boolean json) {
-        if (json) {
-            warning(tag, prettyPrint(message));
-        } else {
-            warning(tag, message);
-        }
+    static void printLong(int priority, String tag, String prefix, long value) {
+        printLong(priority, null, tag, prefix, value);
     }
 
-    public static void error(@NonNull Object tag, String message, boolean json) {
-        if (json) {
-            error(tag, prettyPrint(message));
-        } else {
-            error(tag, message);
+    static void printLong(int priority, LogSite site, String tag, String prefix, long value) {
+        locate(site);
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        if (prefix != null) {
+            builder.append(prefix);
         }
+        println(priority, tag, builder.append(value).toString());
     }
 
-    public static void verbose(@NonNull Object tag, String message, boolean json) {
-        if (json) {
-            verbose(tag, prettyPrint(message));
-        } else {
-            verbose(tag, message);
-        }
+    static void printDouble(int priority, String tag, double value) {
+        printDouble(priority, null, tag, value);
     }
 
-    public static void info(String message, boolean json) {
-        if (json) {
-            info(prettyPrint(message));
-        } else {
-            info(message);
-        }
+    static void printDouble(int priority, LogSite site, String tag, double value) {
+        locate(site);
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        println(priority, tag, builder.append(value).toString());
     }
 
-    public static void debug(String message, boolean json) {
-        if (json) {
-            debug(prettyPrint(message));
-        } else {
-            debug(message);
-        }
+    static void printFloat(int priority, String tag, float value) {
+        printFloat(priority, null, tag, value);
     }
 
-    public static void warning(String message, boolean json) {
-        if (json) {
-            warning(prettyPrint(message));
-        } else {
-            warning(message);
-        }
+    static void printFloat(int priority, LogSite site, String tag, float value) {
+        locate(site);
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        println(priority, tag, builder.append(value).toString());
     }
 
-    public static void error(String message, boolean json) {
-        if (json) {
-            error(prettyPrint(message));
-        } else {
-            error(message);
-        }
+    static void printBoolean(int priority, String tag, boolean value) {
+        printBoolean(priority, null, tag, value);
     }
 
-    public static void verbose(String message, boolean json) {
-        if (json) {
-            verbose(prettyPrint(message));
-        } else {
-            verbose(message);
-        }
+    static void printBoolean(int priority, LogSite site, String tag, boolean value) {
+        locate(site);
+        println(priority, tag, value ? "true" : "false");
     }
 
-    public static void info(@NonNull String tag, Exception exception, boolean json) {
-        if (exception != null) {
-            info(tag, exception.getLocalizedMessage(), json);
-        } else {
-            info(tag, "Exception is null");
-        }
+    static void printChar(int priority, String tag, char value) {
+        printChar(priority, null, tag, value);
     }
 
-    public static void debug(@NonNull String tag, Exception exception, boolean json) {
-        if (exception != null) {
-            debug(tag, exception.getLocalizedMessage(), json);
-        } else {
-            debug(tag, "Exception is null");
-        }
+    static void printChar(int priority, LogSite site, String tag, char value) {
+        locate(site);
+        println(priority, tag, String.valueOf(value));
     }
 
-    public static void warning(@NonNull String tag, Exception exception, boolean json) {
-        if (exception != null) {
-            warning(tag, exception.getLocalizedMessage(), json);
-        } else {
-            warning(tag, "Exception is null");
+    private static LogEvent event(int priority, String tag) {
+        return shouldLog(tag, priority) ? LogEvent.obtain(priority, tag) : LogEvent.NOOP;
+    }
+
+    private static boolean shouldLog(String tag, int priority) {
+        ConfigSnapshot filter = snapshot;
+        LogMetrics current = metrics;
+        if (filter.isLoggable(tag, priority)) {
+            RateLimiter limiter = filter.getRateLimiter(tag, priority);
+            if (limiter == null || limiter.tryAcquire()) {
+                if (current != null) {
+                    current.begin();
+                }
+                return true;
+            }
+        }
+        if (current != null) {
+            current.filtered(priority, tag);
         }
+        return false;
     }
 
-    public static void error(@NonNull String tag, Exception exception, boolean json) {
-        if (exception != null) {
-            error(tag, exception.getLocalizedMessage(), json);
-        } else {
-            error(tag, "Exception is null");
+    private static String defaultTag() {
+        return snapshot.getDefaultTag();
+    }
+
+    private static Span openSpan(String tag, String name) {
+        if (spanTrace == null && !snapshot.isLoggable(tag, Log.DEBUG)) {
+            return Span.NOOP;
         }
+        return SpanStack.open(tag, name);
     }
 
-    public static void verbose(@NonNull String tag, Exception exception, boolean json) {
-        if (exception != null) {
-            verbose(tag, exception.getLocalizedMessage(), json);
-        } else {
-            verbose(tag, "Exception is null");
+    private static void closeSpan(String tag, String name, long start, long duration, int depth) {
+        SpanTrace trace = spanTrace;
+        if (trace != null) {
+            trace.record(tag, name, start, duration);
+        }
+        if (duration >= spanThresholdNanos && shouldLog(tag, Log.DEBUG)) {
+            StringBuilder builder = BUILDER.get();
+            builder.setLength(0);
+            for (int i = 0; i < depth; i++) {
+                builder.append("  ");
+            }
+            builder.append(name).append(" took ");
+            SpanTrace.appendScaled(builder, duration, 1000000);
+            println(Log.DEBUG, tag, builder.append(" ms").toString());
         }
     }
 
-    public static void info(@NonNull Class<?> tag, Exception exception, boolean json) {
-        info(tag.getSimpleName(), exception, json);
+    private static void logMessage(int priority, String tag, String message) {
+        logMessage(priority, null, tag, message);
     }
 
-    public static void debug(@NonNull Class<?> tag, Exception exception, boolean json) {
-        debug(tag.getSimpleName(), exception, json);
+    private static void logMessage(int priority, LogSite site, String tag, String message) {
+        if (shouldLog(tag, priority)) {
+            printMessage(priority, site, tag, message);
+        }
     }
 
-    public static void warning(@NonNull Class<?> tag, Exception exception, boolean json) {
-        warning(tag.getSimpleName(), exception, json);
+    private static void logMessage(int priority, String tag, String message, boolean json) {
+        logMessage(priority, null, tag, message, json);
     }
 
-    public static void error(@NonNull Class<?> tag, Exception exception, boolean json) {
-        error(tag.getSimpleName(), exception, json);
+    private static void logMessage(int priority, LogSite site, String tag, String message, boolean json) {
+        if (shouldLog(tag, priority)) {
+            printMessage(priority, site, tag, message, json);
+        }
     }
 
-    public static void verbose(@NonNull Class<?> tag, Exception exception, boolean json) {
-        verbose(tag.getSimpleName(), exception, json);
+    private static void logThrowable(int priority, String tag, Throwable throwable) {
+        logThrowable(priority, null, tag, throwable);
     }
 
-    public static void info(@NonNull Object tag, Exception exception, boolean json) {
-        info(tag.getClass(), exception, json);
+    private static void logThrowable(int priority, LogSite site, String tag, Throwable throwable) {
+        if (shouldLog(tag, priority)) {
+            printThrowable(priority, site, tag, throwable);
+        }
     }
 
-    public static void debug(@NonNull Object tag, Exception exception, boolean json) {
-        debug(tag.getClass(), exception, json);
+    private static void logException(int priority, String tag, Exception exception, boolean json) {
+        logException(priority, null, tag, exception, json);
     }
 
-    public static void warning(@NonNull Object tag, Exception exception, boolean json) {
-        warning(tag.getClass(), exception, json);
+    private static void logException(int priority, LogSite site, String tag, Exception exception, boolean json) {
+        if (shouldLog(tag, priority)) {
+            printException(priority, site, tag, exception, json);
+        }
     }
 
-    public static void error(@NonNull Object tag, Exception exception, boolean json) {
-        error(tag.getClass(), exception, json);
+    private static void logObject(int priority, String tag, Object object) {
+        logObject(priority, null, tag, object);
     }
 
-    public static void verbose(@NonNull Object tag, Exception exception, boolean json) {
-        verbose(tag.getClass(), exception, json);
+    private static void logObject(int priority, LogSite site, String tag, Object object) {
+        if (shouldLog(tag, priority)) {
+            printObject(priority, site, tag, object);
+        }
     }
 
-    public static void info(Exception exception, boolean json) {
-        info(DEFAULT_LOG_TAG, exception, json);
+    private static void logObject(int priority, String tag, Object object, boolean json) {
+        logObject(priority, null, tag, object, json);
     }
 
-    public static void debug(Exception exception, boolean json) {
-        debug(DEFAULT_LOG_TAG, exception, json);
+    private static void logObject(int priority, LogSite site, String tag, Object object, boolean json) {
+        if (shouldLog(tag, priority)) {
+            printObject(priority, site, tag, object, json);
+        }
     }
 
-    public static void warning(Exception exception, boolean json) {
-        warning(DEFAULT_LOG_TAG, exception, json);
+    private static void logSupplier(int priority, String tag, MessageSupplier supplier) {
+        logSupplier(priority, null, tag, supplier);
     }
 
-    public static void error(Exception exception, boolean json) {
-        error(DEFAULT_LOG_TAG, exception, json);
+    private static void logSupplier(int priority, LogSite site, String tag, MessageSupplier supplier) {
+        if (shouldLog(tag, priority)) {
+            printSupplier(priority, site, tag, supplier);
+        }
     }
 
-    public static void verbose(Exception exception, boolean json) {
-        verbose(DEFAULT_LOG_TAG, exception, json);
+    private static void logLong(int priority, String tag, String prefix, long value) {
+        logLong(priority, null, tag, prefix, value);
     }
 
-    public static void info(@NonNull String tag, Object object, boolean json) {
-        if (object != null) {
-            info(tag, object.toString(), json);
-        } else {
-            info(tag, "Object is null");
+    private static void logLong(int priority, LogSite site, String tag, String prefix, long value) {
+        if (shouldLog(tag, priority)) {
+            printLong(priority, site, tag, prefix, value);
         }
     }
 
-    public static void debug(@NonNull String tag, Object object, boolean json) {
-        if (object != null) {
-            debug(tag, object.toString(), json);
-        } else {
-            debug(tag, "Object is null");
+    private static void logDouble(int priority, String tag, double value) {
+        logDouble(priority, null, tag, value);
+    }
+
+    private static void logDouble(int priority, LogSite site, String tag, double value) {
+        if (shouldLog(tag, priority)) {
+            printDouble(priority, site, tag, value);
         }
     }
 
-    public static void warning(@NonNull String tag, Object object, boolean json) {
-        if (object != null) {
-            warning(tag, object.toString(), json);
-        } else {
-            warning(tag, "Object is null");
+    private static void logFloat(int priority, String tag, float value) {
+        logFloat(priority, null, tag, value);
+    }
+
+    private static void logFloat(int priority, LogSite site, String tag, float value) {
+        if (shouldLog(tag, priority)) {
+            printFloat(priority, site, tag, value);
         }
     }
 
-    public static void error(@NonNull String tag, Object object, boolean json) {
-        if (object != null) {
-            error(tag, object.toString(), json);
-        } else {
-            error(tag, "Object is null");
+    private static void logBoolean(int priority, String tag, boolean value) {
+        logBoolean(priority, null, tag, value);
+    }
+
+    private static void logBoolean(int priority, LogSite site, String tag, boolean value) {
+        if (shouldLog(tag, priority)) {
+            printBoolean(priority, site, tag, value);
         }
     }
 
-    public static void verbose(@NonNull String tag, Object object, boolean json) {
-        if (object != null) {
-            verbose(tag, object.toString(), json);
-        } else {
-            verbose(tag, "Object is null");
+    private static void logChar(int priority, String tag, char value) {
+        logChar(priority, null, tag, value);
+    }
+
+    private static void logChar(int priority, LogSite site, String tag, char value) {
+        if (shouldLog(tag, priority)) {
+            printChar(priority, site, tag, value);
         }
     }
 
-    public static void info(@NonNull Class<?> tag, Object object, boolean json) {
-        info(tag.getSimpleName(), object, json);
+    public static void info(@NonNull String tag, String message) {
+        logMessage(Log.INFO, tag, message);
     }
 
-    public static void debug(@NonNull Class<?> tag, Object object, boolean json) {
-        debug(tag.getSimpleName(), object, json);
+    public static void debug(@NonNull String tag, String message) {
+        logMessage(Log.DEBUG, tag, message);
     }
 
-    public static void warning(@NonNull Class<?> tag, Object object, boolean json) {
-        warning(tag.getSimpleName(), object, json);
+    public static void warning(@NonNull String tag, String message) {
+        logMessage(Log.WARN, tag, message);
     }
 
-    public static void error(@NonNull Class<?> tag, Object object, boolean json) {
-        error(tag.getSimpleName(), object, json);
+    public static void error(@NonNull String tag, String message) {
+        logMessage(Log.ERROR, tag, message);
     }
 
-    public static void verbose(@NonNull Class<?> tag, Object object, boolean json) {
-        verbose(tag.getSimpleName(), object, json);
+    public static void verbose(@NonNull String tag, String message) {
+        logMessage(Log.VERBOSE, tag, message);
     }
 
-    public static void info(@NonNull Object tag, Object object, boolean json) {
-        info(tag.getClass(), object, json);
+    public static void info(@NonNull LogSite site, @NonNull String tag, String message) {
+        logMessage(Log.INFO, site, tag, message);
     }
 
-    public static void debug(@NonNull Object tag, Object object, boolean json) {
-        debug(tag.getClass(), object, json);
+    public static void debug(@NonNull LogSite site, @NonNull String tag, String message) {
+        logMessage(Log.DEBUG, site, tag, message);
     }
 
-    public static void warning(@NonNull Object tag, Object object, boolean json) {
-        warning(tag.getClass(), object, json);
+    public static void warning(@NonNull LogSite site, @NonNull String tag, String message) {
+        logMessage(Log.WARN, site, tag, message);
     }
 
-    public static void error(@NonNull Object tag, Object object, boolean json) {
-        error(tag.getClass(), object, json);
+    public static void error(@NonNull LogSite site, @NonNull String tag, String message) {
+        logMessage(Log.ERROR, site, tag, message);
     }
 
-    public static void verbose(@NonNull Object tag, Object object, boolean json) {
-        verbose(tag.getClass(), object, json);
+    public static void verbose(@NonNull LogSite site, @NonNull String tag, String message) {
+        logMessage(Log.VERBOSE, site, tag, message);
     }
 
-    public static void info(Object object, boolean json) {
-        info(DEFAULT_LOG_TAG, object, json);
+    public static void info(@NonNull Class<?> tag, String message) {
+        logMessage(Log.INFO, TagCache.get(tag), message);
     }
 
-    public static void debug(Object object, boolean json) {
-        debug(DEFAULT_LOG_TAG, object, json);
+    public static void debug(@NonNull Class<?> tag, String message) {
+        logMessage(Log.DEBUG, TagCache.get(tag), message);
     }
 
-    public static void warning(Object object, boolean json) {
-        warning(DEFAULT_LOG_TAG, object, json);
+    public static void warning(@NonNull Class<?> tag, String message) {
+        logMessage(Log.WARN, TagCache.get(tag), message);
     }
 
-    public static void error(Object object, boolean json) {
-        error(DEFAULT_LOG_TAG, object, json);
+    public static void error(@NonNull Class<?> tag, String message) {
+        logMessage(Log.ERROR, TagCache.get(tag), message);
     }
 
-    public static void verbose(Object object, boolean json) {
-        verbose(DEFAULT_LOG_TAG, object, json);
+    public static void verbose(@NonNull Class<?> tag, String message) {
+        logMessage(Log.VERBOSE, TagCache.get(tag), message);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Class<?> tag, String message) {
+        logMessage(Log.INFO, site, TagCache.get(tag), message);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Class<?> tag, String message) {
+        logMessage(Log.DEBUG, site, TagCache.get(tag), message);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Class<?> tag, String message) {
+        logMessage(Log.WARN, site, TagCache.get(tag), message);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Class<?> tag, String message) {
+        logMessage(Log.ERROR, site, TagCache.get(tag), message);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Class<?> tag, String message) {
+        logMessage(Log.VERBOSE, site, TagCache.get(tag), message);
+    }
+
+    public static void info(@NonNull Object tag, String message) {
+        logMessage(Log.INFO, TagCache.get(tag.getClass()), message);
+    }
+
+    public static void debug(@NonNull Object tag, String message) {
+        logMessage(Log.DEBUG, TagCache.get(tag.getClass()), message);
+    }
+
+    public static void warning(@NonNull Object tag, String message) {
+        logMessage(Log.WARN, TagCache.get(tag.getClass()), message);
+    }
+
+    public static void error(@NonNull Object tag, String message) {
+        logMessage(Log.ERROR, TagCache.get(tag.getClass()), message);
+    }
+
+    public static void verbose(@NonNull Object tag, String message) {
+        logMessage(Log.VERBOSE, TagCache.get(tag.getClass()), message);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Object tag, String message) {
+        logMessage(Log.INFO, site, TagCache.get(tag.getClass()), message);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Object tag, String message) {
+        logMessage(Log.DEBUG, site, TagCache.get(tag.getClass()), message);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Object tag, String message) {
+        logMessage(Log.WARN, site, TagCache.get(tag.getClass()), message);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Object tag, String message) {
+        logMessage(Log.ERROR, site, TagCache.get(tag.getClass()), message);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Object tag, String message) {
+        logMessage(Log.VERBOSE, site, TagCache.get(tag.getClass()), message);
+    }
+
+    public static void info(String message) {
+        logMessage(Log.INFO, defaultTag(), message);
+    }
+
+    public static void debug(String message) {
+        logMessage(Log.DEBUG, defaultTag(), message);
+    }
+
+    public static void warning(String message) {
+        logMessage(Log.WARN, defaultTag(), message);
+    }
+
+    public static void error(String message) {
+        logMessage(Log.ERROR, defaultTag(), message);
+    }
+
+    public static void verbose(String message) {
+        logMessage(Log.VERBOSE, defaultTag(), message);
+    }
+
+    public static void info(@NonNull String tag, Exception exception) {
+        logThrowable(Log.INFO, tag, exception);
+    }
+
+    public static void debug(@NonNull String tag, Exception exception) {
+        logThrowable(Log.DEBUG, tag, exception);
+    }
+
+    public static void warning(@NonNull String tag, Exception exception) {
+        logThrowable(Log.WARN, tag, exception);
+    }
+
+    public static void error(@NonNull String tag, Exception exception) {
+        logThrowable(Log.ERROR, tag, exception);
+    }
+
+    public static void verbose(@NonNull String tag, Exception exception) {
+        logThrowable(Log.VERBOSE, tag, exception);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull String tag, Exception exception) {
+        logThrowable(Log.INFO, site, tag, exception);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull String tag, Exception exception) {
+        logThrowable(Log.DEBUG, site, tag, exception);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull String tag, Exception exception) {
+        logThrowable(Log.WARN, site, tag, exception);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull String tag, Exception exception) {
+        logThrowable(Log.ERROR, site, tag, exception);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull String tag, Exception exception) {
+        logThrowable(Log.VERBOSE, site, tag, exception);
+    }
+
+    public static void info(@NonNull Class<?> tag, Exception exception) {
+        logThrowable(Log.INFO, TagCache.get(tag), exception);
+    }
+
+    public static void debug(@NonNull Class<?> tag, Exception exception) {
+        logThrowable(Log.DEBUG, TagCache.get(tag), exception);
+    }
+
+    public static void warning(@NonNull Class<?> tag, Exception exception) {
+        logThrowable(Log.WARN, TagCache.get(tag), exception);
+    }
+
+    public static void error(@NonNull Class<?> tag, Exception exception) {
+        logThrowable(Log.ERROR, TagCache.get(tag), exception);
+    }
+
+    public static void verbose(@NonNull Class<?> tag, Exception exception) {
+        logThrowable(Log.VERBOSE, TagCache.get(tag), exception);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Class<?> tag, Exception exception) {
+        logThrowable(Log.INFO, site, TagCache.get(tag), exception);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Class<?> tag, Exception exception) {
+        logThrowable(Log.DEBUG, site, TagCache.get(tag), exception);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Class<?> tag, Exception exception) {
+        logThrowable(Log.WARN, site, TagCache.get(tag), exception);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Class<?> tag, Exception exception) {
+        logThrowable(Log.ERROR, site, TagCache.get(tag), exception);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Class<?> tag, Exception exception) {
+        logThrowable(Log.VERBOSE, site, TagCache.get(tag), exception);
+    }
+
+    public static void info(@NonNull Object tag, Exception exception) {
+        logThrowable(Log.INFO, TagCache.get(tag.getClass()), exception);
+    }
+
+    public static void debug(@NonNull Object tag, Exception exception) {
+        logThrowable(Log.DEBUG, TagCache.get(tag.getClass()), exception);
+    }
+
+    public static void warning(@NonNull Object tag, Exception exception) {
+        logThrowable(Log.WARN, TagCache.get(tag.getClass()), exception);
+    }
+
+    public static void error(@NonNull Object tag, Exception exception) {
+        logThrowable(Log.ERROR, TagCache.get(tag.getClass()), exception);
+    }
+
+    public static void verbose(@NonNull Object tag, Exception exception) {
+        logThrowable(Log.VERBOSE, TagCache.get(tag.getClass()), exception);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Object tag, Exception exception) {
+        logThrowable(Log.INFO, site, TagCache.get(tag.getClass()), exception);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Object tag, Exception exception) {
+        logThrowable(Log.DEBUG, site, TagCache.get(tag.getClass()), exception);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Object tag, Exception exception) {
+        logThrowable(Log.WARN, site, TagCache.get(tag.getClass()), exception);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Object tag, Exception exception) {
+        logThrowable(Log.ERROR, site, TagCache.get(tag.getClass()), exception);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Object tag, Exception exception) {
+        logThrowable(Log.VERBOSE, site, TagCache.get(tag.getClass()), exception);
+    }
+
+    public static void info(Exception exception) {
+        logThrowable(Log.INFO, defaultTag(), exception);
+    }
+
+    public static void debug(Exception exception) {
+        logThrowable(Log.DEBUG, defaultTag(), exception);
+    }
+
+    public static void warning(Exception exception) {
+        logThrowable(Log.WARN, defaultTag(), exception);
+    }
+
+    public static void error(Exception exception) {
+        logThrowable(Log.ERROR, defaultTag(), exception);
+    }
+
+    public static void verbose(Exception exception) {
+        logThrowable(Log.VERBOSE, defaultTag(), exception);
+    }
+
+    public static void info(@NonNull String tag, Throwable throwable) {
+        logThrowable(Log.INFO, tag, throwable);
+    }
+
+    public static void debug(@NonNull String tag, Throwable throwable) {
+        logThrowable(Log.DEBUG, tag, throwable);
+    }
+
+    public static void warning(@NonNull String tag, Throwable throwable) {
+        logThrowable(Log.WARN, tag, throwable);
+    }
+
+    public static void error(@NonNull String tag, Throwable throwable) {
+        logThrowable(Log.ERROR, tag, throwable);
+    }
+
+    public static void verbose(@NonNull String tag, Throwable throwable) {
+        logThrowable(Log.VERBOSE, tag, throwable);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull String tag, Throwable throwable) {
+        logThrowable(Log.INFO, site, tag, throwable);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull String tag, Throwable throwable) {
+        logThrowable(Log.DEBUG, site, tag, throwable);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull String tag, Throwable throwable) {
+        logThrowable(Log.WARN, site, tag, throwable);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull String tag, Throwable throwable) {
+        logThrowable(Log.ERROR, site, tag, throwable);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull String tag, Throwable throwable) {
+        logThrowable(Log.VERBOSE, site, tag, throwable);
+    }
+
+    public static void info(@NonNull Class<?> tag, Throwable throwable) {
+        logThrowable(Log.INFO, TagCache.get(tag), throwable);
+    }
+
+    public static void debug(@NonNull Class<?> tag, Throwable throwable) {
+        logThrowable(Log.DEBUG, TagCache.get(tag), throwable);
+    }
+
+    public static void warning(@NonNull Class<?> tag, Throwable throwable) {
+        logThrowable(Log.WARN, TagCache.get(tag), throwable);
+    }
+
+    public static void error(@NonNull Class<?> tag, Throwable throwable) {
+        logThrowable(Log.ERROR, TagCache.get(tag), throwable);
+    }
+
+    public static void verbose(@NonNull Class<?> tag, Throwable throwable) {
+        logThrowable(Log.VERBOSE, TagCache.get(tag), throwable);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Class<?> tag, Throwable throwable) {
+        logThrowable(Log.INFO, site, TagCache.get(tag), throwable);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Class<?> tag, Throwable throwable) {
+        logThrowable(Log.DEBUG, site, TagCache.get(tag), throwable);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Class<?> tag, Throwable throwable) {
+        logThrowable(Log.WARN, site, TagCache.get(tag), throwable);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Class<?> tag, Throwable throwable) {
+        logThrowable(Log.ERROR, site, TagCache.get(tag), throwable);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Class<?> tag, Throwable throwable) {
+        logThrowable(Log.VERBOSE, site, TagCache.get(tag), throwable);
+    }
+
+    public static void info(@NonNull Object tag, Throwable throwable) {
+        logThrowable(Log.INFO, TagCache.get(tag.getClass()), throwable);
+    }
+
+    public static void debug(@NonNull Object tag, Throwable throwable) {
+        logThrowable(Log.DEBUG, TagCache.get(tag.getClass()), throwable);
+    }
+
+    public static void warning(@NonNull Object tag, Throwable throwable) {
+        logThrowable(Log.WARN, TagCache.get(tag.getClass()), throwable);
+    }
+
+    public static void error(@NonNull Object tag, Throwable throwable) {
+        logThrowable(Log.ERROR, TagCache.get(tag.getClass()), throwable);
+    }
+
+    public static void verbose(@NonNull Object tag, Throwable throwable) {
+        logThrowable(Log.VERBOSE, TagCache.get(tag.getClass()), throwable);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Object tag, Throwable throwable) {
+        logThrowable(Log.INFO, site, TagCache.get(tag.getClass()), throwable);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Object tag, Throwable throwable) {
+        logThrowable(Log.DEBUG, site, TagCache.get(tag.getClass()), throwable);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Object tag, Throwable throwable) {
+        logThrowable(Log.WARN, site, TagCache.get(tag.getClass()), throwable);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Object tag, Throwable throwable) {
+        logThrowable(Log.ERROR, site, TagCache.get(tag.getClass()), throwable);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Object tag, Throwable throwable) {
+        logThrowable(Log.VERBOSE, site, TagCache.get(tag.getClass()), throwable);
+    }
+
+    public static void info(Throwable throwable) {
+        logThrowable(Log.INFO, defaultTag(), throwable);
+    }
+
+    public static void debug(Throwable throwable) {
+        logThrowable(Log.DEBUG, defaultTag(), throwable);
+    }
+
+    public static void warning(Throwable throwable) {
+        logThrowable(Log.WARN, defaultTag(), throwable);
+    }
+
+    public static void error(Throwable throwable) {
+        logThrowable(Log.ERROR, defaultTag(), throwable);
+    }
+
+    public static void verbose(Throwable throwable) {
+        logThrowable(Log.VERBOSE, defaultTag(), throwable);
+    }
+
+    public static void info(@NonNull String tag, Object object) {
+        logObject(Log.INFO, tag, object);
+    }
+
+    public static void debug(@NonNull String tag, Object object) {
+        logObject(Log.DEBUG, tag, object);
+    }
+
+    public static void warning(@NonNull String tag, Object object) {
+        logObject(Log.WARN, tag, object);
+    }
+
+    public static void error(@NonNull String tag, Object object) {
+        logObject(Log.ERROR, tag, object);
+    }
+
+    public static void verbose(@NonNull String tag, Object object) {
+        logObject(Log.VERBOSE, tag, object);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull String tag, Object object) {
+        logObject(Log.INFO, site, tag, object);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull String tag, Object object) {
+        logObject(Log.DEBUG, site, tag, object);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull String tag, Object object) {
+        logObject(Log.WARN, site, tag, object);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull String tag, Object object) {
+        logObject(Log.ERROR, site, tag, object);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull String tag, Object object) {
+        logObject(Log.VERBOSE, site, tag, object);
+    }
+
+    public static void info(@NonNull Class<?> tag, Object object) {
+        logObject(Log.INFO, TagCache.get(tag), object);
+    }
+
+    public static void debug(@NonNull Class<?> tag, Object object) {
+        logObject(Log.DEBUG, TagCache.get(tag), object);
+    }
+
+    public static void warning(@NonNull Class<?> tag, Object object) {
+        logObject(Log.WARN, TagCache.get(tag), object);
+    }
+
+    public static void error(@NonNull Class<?> tag, Object object) {
+        logObject(Log.ERROR, TagCache.get(tag), object);
+    }
+
+    public static void verbose(@NonNull Class<?> tag, Object object) {
+        logObject(Log.VERBOSE, TagCache.get(tag), object);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Class<?> tag, Object object) {
+        logObject(Log.INFO, site, TagCache.get(tag), object);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Class<?> tag, Object object) {
+        logObject(Log.DEBUG, site, TagCache.get(tag), object);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Class<?> tag, Object object) {
+        logObject(Log.WARN, site, TagCache.get(tag), object);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Class<?> tag, Object object) {
+        logObject(Log.ERROR, site, TagCache.get(tag), object);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Class<?> tag, Object object) {
+        logObject(Log.VERBOSE, site, TagCache.get(tag), object);
+    }
+
+    public static void info(@NonNull Object tag, Object object) {
+        logObject(Log.INFO, TagCache.get(tag.getClass()), object);
+    }
+
+    public static void debug(@NonNull Object tag, Object object) {
+        logObject(Log.DEBUG, TagCache.get(tag.getClass()), object);
+    }
+
+    public static void warning(@NonNull Object tag, Object object) {
+        logObject(Log.WARN, TagCache.get(tag.getClass()), object);
+    }
+
+    public static void error(@NonNull Object tag, Object object) {
+        logObject(Log.ERROR, TagCache.get(tag.getClass()), object);
+    }
+
+    public static void verbose(@NonNull Object tag, Object object) {
+        logObject(Log.VERBOSE, TagCache.get(tag.getClass()), object);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Object tag, Object object) {
+        logObject(Log.INFO, site, TagCache.get(tag.getClass()), object);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Object tag, Object object) {
+        logObject(Log.DEBUG, site, TagCache.get(tag.getClass()), object);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Object tag, Object object) {
+        logObject(Log.WARN, site, TagCache.get(tag.getClass()), object);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Object tag, Object object) {
+        logObject(Log.ERROR, site, TagCache.get(tag.getClass()), object);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Object tag, Object object) {
+        logObject(Log.VERBOSE, site, TagCache.get(tag.getClass()), object);
+    }
+
+    public static void info(Object object) {
+        logObject(Log.INFO, defaultTag(), object);
+    }
+
+    public static void debug(Object object) {
+        logObject(Log.DEBUG, defaultTag(), object);
+    }
+
+    public static void warning(Object object) {
+        logObject(Log.WARN, defaultTag(), object);
+    }
+
+    public static void error(Object object) {
+        logObject(Log.ERROR, defaultTag(), object);
+    }
+
+    public static void verbose(Object object) {
+        logObject(Log.VERBOSE, defaultTag(), object);
+    }
+
+    public static void info(@NonNull String tag, String message, boolean json) {
+        logMessage(Log.INFO, tag, message, json);
+    }
+
+    public static void debug(@NonNull String tag, String message, boolean json) {
+        logMessage(Log.DEBUG, tag, message, json);
+    }
+
+    public static void warning(@NonNull String tag, String message, boolean json) {
+        logMessage(Log.WARN, tag, message, json);
+    }
+
+    public static void error(@NonNull String tag, String message, boolean json) {
+        logMessage(Log.ERROR, tag, message, json);
+    }
+
+    public static void verbose(@NonNull String tag, String message, boolean json) {
+        logMessage(Log.VERBOSE, tag, message, json);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull String tag, String message, boolean json) {
+        logMessage(Log.INFO, site, tag, message, json);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull String tag, String message, boolean json) {
+        logMessage(Log.DEBUG, site, tag, message, json);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull String tag, String message, boolean json) {
+        logMessage(Log.WARN, site, tag, message, json);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull String tag, String message, boolean json) {
+        logMessage(Log.ERROR, site, tag, message, json);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull String tag, String message, boolean json) {
+        logMessage(Log.VERBOSE, site, tag, message, json);
+    }
+
+    public static void info(@NonNull Class<?> tag, String message, boolean json) {
+        logMessage(Log.INFO, TagCache.get(tag), message, json);
+    }
+
+    public static void debug(@NonNull Class<?> tag, String message, boolean json) {
+        logMessage(Log.DEBUG, TagCache.get(tag), message, json);
+    }
+
+    public static void warning(@NonNull Class<?> tag, String message, boolean json) {
+        logMessage(Log.WARN, TagCache.get(tag), message, json);
+    }
+
+    public static void error(@NonNull Class<?> tag, String message, boolean json) {
+        logMessage(Log.ERROR, TagCache.get(tag), message, json);
+    }
+
+    public static void verbose(@NonNull Class<?> tag, String message, boolean json) {
+        logMessage(Log.VERBOSE, TagCache.get(tag), message, json);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Class<?> tag, String message, boolean json) {
+        logMessage(Log.INFO, site, TagCache.get(tag), message, json);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Class<?> tag, String message, boolean json) {
+        logMessage(Log.DEBUG, site, TagCache.get(tag), message, json);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Class<?> tag, String message, boolean json) {
+        logMessage(Log.WARN, site, TagCache.get(tag), message, json);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Class<?> tag, String message, boolean json) {
+        logMessage(Log.ERROR, site, TagCache.get(tag), message, json);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Class<?> tag, String message, boolean json) {
+        logMessage(Log.VERBOSE, site, TagCache.get(tag), message, json);
+    }
+
+    public static void info(@NonNull Object tag, String message, boolean json) {
+        logMessage(Log.INFO, TagCache.get(tag.getClass()), message, json);
+    }
+
+    public static void debug(@NonNull Object tag, String message, boolean json) {
+        logMessage(Log.DEBUG, TagCache.get(tag.getClass()), message, json);
+    }
+
+    public static void warning(@NonNull Object tag, String message, boolean json) {
+        logMessage(Log.WARN, TagCache.get(tag.getClass()), message, json);
+    }
+
+    public static void error(@NonNull Object tag, String message, boolean json) {
+        logMessage(Log.ERROR, TagCache.get(tag.getClass()), message, json);
+    }
+
+    public static void verbose(@NonNull Object tag, String message, boolean json) {
+        logMessage(Log.VERBOSE, TagCache.get(tag.getClass()), message, json);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Object tag, String message, boolean json) {
+        logMessage(Log.INFO, site, TagCache.get(tag.getClass()), message, json);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Object tag, String message, boolean json) {
+        logMessage(Log.DEBUG, site, TagCache.get(tag.getClass()), message, json);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Object tag, String message, boolean json) {
+        logMessage(Log.WARN, site, TagCache.get(tag.getClass()), message, json);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Object tag, String message, boolean json) {
+        logMessage(Log.ERROR, site, TagCache.get(tag.getClass()), message, json);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Object tag, String message, boolean json) {
+        logMessage(Log.VERBOSE, site, TagCache.get(tag.getClass()), message, json);
+    }
+
+    public static void info(String message, boolean json) {
+        logMessage(Log.INFO, defaultTag(), message, json);
+    }
+
+    public static void debug(String message, boolean json) {
+        logMessage(Log.DEBUG, defaultTag(), message, json);
+    }
+
+    public static void warning(String message, boolean json) {
+        logMessage(Log.WARN, defaultTag(), message, json);
+    }
+
+    public static void error(String message, boolean json) {
+        logMessage(Log.ERROR, defaultTag(), message, json);
+    }
+
+    public static void verbose(String message, boolean json) {
+        logMessage(Log.VERBOSE, defaultTag(), message, json);
+    }
+
+    public static void info(@NonNull String tag, Exception exception, boolean json) {
+        logException(Log.INFO, tag, exception, json);
+    }
+
+    public static void debug(@NonNull String tag, Exception exception, boolean json) {
+        logException(Log.DEBUG, tag, exception, json);
+    }
+
+    public static void warning(@NonNull String tag, Exception exception, boolean json) {
+        logException(Log.WARN, tag, exception, json);
+    }
+
+    public static void error(@NonNull String tag, Exception exception, boolean json) {
+        logException(Log.ERROR, tag, exception, json);
+    }
+
+    public static void verbose(@NonNull String tag, Exception exception, boolean json) {
+        logException(Log.VERBOSE, tag, exception, json);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull String tag, Exception exception, boolean json) {
+        logException(Log.INFO, site, tag, exception, json);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull String tag, Exception exception, boolean json) {
+        logException(Log.DEBUG, site, tag, exception, json);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull String tag, Exception exception, boolean json) {
+        logException(Log.WARN, site, tag, exception, json);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull String tag, Exception exception, boolean json) {
+        logException(Log.ERROR, site, tag, exception, json);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull String tag, Exception exception, boolean json) {
+        logException(Log.VERBOSE, site, tag, exception, json);
+    }
+
+    public static void info(@NonNull Class<?> tag, Exception exception, boolean json) {
+        logException(Log.INFO, TagCache.get(tag), exception, json);
+    }
+
+    public static void debug(@NonNull Class<?> tag, Exception exception, boolean json) {
+        logException(Log.DEBUG, TagCache.get(tag), exception, json);
+    }
+
+    public static void warning(@NonNull Class<?> tag, Exception exception, boolean json) {
+        logException(Log.WARN, TagCache.get(tag), exception, json);
+    }
+
+    public static void error(@NonNull Class<?> tag, Exception exception, boolean json) {
+        logException(Log.ERROR, TagCache.get(tag), exception, json);
+    }
+
+    public static void verbose(@NonNull Class<?> tag, Exception exception, boolean json) {
+        logException(Log.VERBOSE, TagCache.get(tag), exception, json);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Class<?> tag, Exception exception, boolean json) {
+        logException(Log.INFO, site, TagCache.get(tag), exception, json);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Class<?> tag, Exception exception, boolean json) {
+        logException(Log.DEBUG, site, TagCache.get(tag), exception, json);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Class<?> tag, Exception exception, boolean json) {
+        logException(Log.WARN, site, TagCache.get(tag), exception, json);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Class<?> tag, Exception exception, boolean json) {
+        logException(Log.ERROR, site, TagCache.get(tag), exception, json);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Class<?> tag, Exception exception, boolean json) {
+        logException(Log.VERBOSE, site, TagCache.get(tag), exception, json);
+    }
+
+    public static void info(@NonNull Object tag, Exception exception, boolean json) {
+        logException(Log.INFO, TagCache.get(tag.getClass()), exception, json);
+    }
+
+    public static void debug(@NonNull Object tag, Exception exception, boolean json) {
+        logException(Log.DEBUG, TagCache.get(tag.getClass()), exception, json);
+    }
+
+    public static void warning(@NonNull Object tag, Exception exception, boolean json) {
+        logException(Log.WARN, TagCache.get(tag.getClass()), exception, json);
+    }
+
+    public static void error(@NonNull Object tag, Exception exception, boolean json) {
+        logException(Log.ERROR, TagCache.get(tag.getClass()), exception, json);
+    }
+
+    public static void verbose(@NonNull Object tag, Exception exception, boolean json) {
+        logException(Log.VERBOSE, TagCache.get(tag.getClass()), exception, json);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Object tag, Exception exception, boolean json) {
+        logException(Log.INFO, site, TagCache.get(tag.getClass()), exception, json);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Object tag, Exception exception, boolean json) {
+        logException(Log.DEBUG, site, TagCache.get(tag.getClass()), exception, json);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Object tag, Exception exception, boolean json) {
+        logException(Log.WARN, site, TagCache.get(tag.getClass()), exception, json);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Object tag, Exception exception, boolean json) {
+        logException(Log.ERROR, site, TagCache.get(tag.getClass()), exception, json);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Object tag, Exception exception, boolean json) {
+        logException(Log.VERBOSE, site, TagCache.get(tag.getClass()), exception, json);
+    }
+
+    public static void info(Exception exception, boolean json) {
+        logException(Log.INFO, defaultTag(), exception, json);
+    }
+
+    public static void debug(Exception exception, boolean json) {
+        logException(Log.DEBUG, defaultTag(), exception, json);
+    }
+
+    public static void warning(Exception exception, boolean json) {
+        logException(Log.WARN, defaultTag(), exception, json);
+    }
+
+    public static void error(Exception exception, boolean json) {
+        logException(Log.ERROR, defaultTag(), exception, json);
+    }
+
+    public static void verbose(Exception exception, boolean json) {
+        logException(Log.VERBOSE, defaultTag(), exception, json);
+    }
+
+    public static void info(@NonNull String tag, Object object, boolean json) {
+        logObject(Log.INFO, tag, object, json);
+    }
+
+    public static void debug(@NonNull String tag, Object object, boolean json) {
+        logObject(Log.DEBUG, tag, object, json);
+    }
+
+    public static void warning(@NonNull String tag, Object object, boolean json) {
+        logObject(Log.WARN, tag, object, json);
+    }
+
+    public static void error(@NonNull String tag, Object object, boolean json) {
+        logObject(Log.ERROR, tag, object, json);
+    }
+
+    public static void verbose(@NonNull String tag, Object object, boolean json) {
+        logObject(Log.VERBOSE, tag, object, json);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull String tag, Object object, boolean json) {
+        logObject(Log.INFO, site, tag, object, json);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull String tag, Object object, boolean json) {
+        logObject(Log.DEBUG, site, tag, object, json);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull String tag, Object object, boolean json) {
+        logObject(Log.WARN, site, tag, object, json);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull String tag, Object object, boolean json) {
+        logObject(Log.ERROR, site, tag, object, json);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull String tag, Object object, boolean json) {
+        logObject(Log.VERBOSE, site, tag, object, json);
+    }
+
+    public static void info(@NonNull Class<?> tag, Object object, boolean json) {
+        logObject(Log.INFO, TagCache.get(tag), object, json);
+    }
+
+    public static void debug(@NonNull Class<?> tag, Object object, boolean json) {
+        logObject(Log.DEBUG, TagCache.get(tag), object, json);
+    }
+
+    public static void warning(@NonNull Class<?> tag, Object object, boolean json) {
+        logObject(Log.WARN, TagCache.get(tag), object, json);
+    }
+
+    public static void error(@NonNull Class<?> tag, Object object, boolean json) {
+        logObject(Log.ERROR, TagCache.get(tag), object, json);
+    }
+
+    public static void verbose(@NonNull Class<?> tag, Object object, boolean json) {
+        logObject(Log.VERBOSE, TagCache.get(tag), object, json);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Class<?> tag, Object object, boolean json) {
+        logObject(Log.INFO, site, TagCache.get(tag), object, json);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Class<?> tag, Object object, boolean json) {
+        logObject(Log.DEBUG, site, TagCache.get(tag), object, json);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Class<?> tag, Object object, boolean json) {
+        logObject(Log.WARN, site, TagCache.get(tag), object, json);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Class<?> tag, Object object, boolean json) {
+        logObject(Log.ERROR, site, TagCache.get(tag), object, json);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Class<?> tag, Object object, boolean json) {
+        logObject(Log.VERBOSE, site, TagCache.get(tag), object, json);
+    }
+
+    public static void info(@NonNull Object tag, Object object, boolean json) {
+        logObject(Log.INFO, TagCache.get(tag.getClass()), object, json);
+    }
+
+    public static void debug(@NonNull Object tag, Object object, boolean json) {
+        logObject(Log.DEBUG, TagCache.get(tag.getClass()), object, json);
+    }
+
+    public static void warning(@NonNull Object tag, Object object, boolean json) {
+        logObject(Log.WARN, TagCache.get(tag.getClass()), object, json);
+    }
+
+    public static void error(@NonNull Object tag, Object object, boolean json) {
+        logObject(Log.ERROR, TagCache.get(tag.getClass()), object, json);
+    }
+
+    public static void verbose(@NonNull Object tag, Object object, boolean json) {
+        logObject(Log.VERBOSE, TagCache.get(tag.getClass()), object, json);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Object tag, Object object, boolean json) {
+        logObject(Log.INFO, site, TagCache.get(tag.getClass()), object, json);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Object tag, Object object, boolean json) {
+        logObject(Log.DEBUG, site, TagCache.get(tag.getClass()), object, json);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Object tag, Object object, boolean json) {
+        logObject(Log.WARN, site, TagCache.get(tag.getClass()), object, json);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Object tag, Object object, boolean json) {
+        logObject(Log.ERROR, site, TagCache.get(tag.getClass()), object, json);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Object tag, Object object, boolean json) {
+        logObject(Log.VERBOSE, site, TagCache.get(tag.getClass()), object, json);
+    }
+
+    public static void info(Object object, boolean json) {
+        logObject(Log.INFO, defaultTag(), object, json);
+    }
+
+    public static void debug(Object object, boolean json) {
+        logObject(Log.DEBUG, defaultTag(), object, json);
+    }
+
+    public static void warning(Object object, boolean json) {
+        logObject(Log.WARN, defaultTag(), object, json);
+    }
+
+    public static void error(Object object, boolean json) {
+        logObject(Log.ERROR, defaultTag(), object, json);
+    }
+
+    public static void verbose(Object object, boolean json) {
+        logObject(Log.VERBOSE, defaultTag(), object, json);
+    }
+
+    public static void info(@NonNull String tag, MessageSupplier supplier) {
+        logSupplier(Log.INFO, tag, supplier);
+    }
+
+    public static void debug(@NonNull String tag, MessageSupplier supplier) {
+        logSupplier(Log.DEBUG, tag, supplier);
+    }
+
+    public static void warning(@NonNull String tag, MessageSupplier supplier) {
+        logSupplier(Log.WARN, tag, supplier);
+    }
+
+    public static void error(@NonNull String tag, MessageSupplier supplier) {
+        logSupplier(Log.ERROR, tag, supplier);
+    }
+
+    public static void verbose(@NonNull String tag, MessageSupplier supplier) {
+        logSupplier(Log.VERBOSE, tag, supplier);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull String tag, MessageSupplier supplier) {
+        logSupplier(Log.INFO, site, tag, supplier);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull String tag, MessageSupplier supplier) {
+        logSupplier(Log.DEBUG, site, tag, supplier);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull String tag, MessageSupplier supplier) {
+        logSupplier(Log.WARN, site, tag, supplier);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull String tag, MessageSupplier supplier) {
+        logSupplier(Log.ERROR, site, tag, supplier);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull String tag, MessageSupplier supplier) {
+        logSupplier(Log.VERBOSE, site, tag, supplier);
+    }
+
+    public static void info(@NonNull Class<?> tag, MessageSupplier supplier) {
+        logSupplier(Log.INFO, TagCache.get(tag), supplier);
+    }
+
+    public static void debug(@NonNull Class<?> tag, MessageSupplier supplier) {
+        logSupplier(Log.DEBUG, TagCache.get(tag), supplier);
+    }
+
+    public static void warning(@NonNull Class<?> tag, MessageSupplier supplier) {
+        logSupplier(Log.WARN, TagCache.get(tag), supplier);
+    }
+
+    public static void error(@NonNull Class<?> tag, MessageSupplier supplier) {
+        logSupplier(Log.ERROR, TagCache.get(tag), supplier);
+    }
+
+    public static void verbose(@NonNull Class<?> tag, MessageSupplier supplier) {
+        logSupplier(Log.VERBOSE, TagCache.get(tag), supplier);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Class<?> tag, MessageSupplier supplier) {
+        logSupplier(Log.INFO, site, TagCache.get(tag), supplier);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Class<?> tag, MessageSupplier supplier) {
+        logSupplier(Log.DEBUG, site, TagCache.get(tag), supplier);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Class<?> tag, MessageSupplier supplier) {
+        logSupplier(Log.WARN, site, TagCache.get(tag), supplier);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Class<?> tag, MessageSupplier supplier) {
+        logSupplier(Log.ERROR, site, TagCache.get(tag), supplier);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Class<?> tag, MessageSupplier supplier) {
+        logSupplier(Log.VERBOSE, site, TagCache.get(tag), supplier);
+    }
+
+    public static void info(@NonNull Object tag, MessageSupplier supplier) {
+        logSupplier(Log.INFO, TagCache.get(tag.getClass()), supplier);
+    }
+
+    public static void debug(@NonNull Object tag, MessageSupplier supplier) {
+        logSupplier(Log.DEBUG, TagCache.get(tag.getClass()), supplier);
+    }
+
+    public static void warning(@NonNull Object tag, MessageSupplier supplier) {
+        logSupplier(Log.WARN, TagCache.get(tag.getClass()), supplier);
+    }
+
+    public static void error(@NonNull Object tag, MessageSupplier supplier) {
+        logSupplier(Log.ERROR, TagCache.get(tag.getClass()), supplier);
+    }
+
+    public static void verbose(@NonNull Object tag, MessageSupplier supplier) {
+        logSupplier(Log.VERBOSE, TagCache.get(tag.getClass()), supplier);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Object tag, MessageSupplier supplier) {
+        logSupplier(Log.INFO, site, TagCache.get(tag.getClass()), supplier);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Object tag, MessageSupplier supplier) {
+        logSupplier(Log.DEBUG, site, TagCache.get(tag.getClass()), supplier);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Object tag, MessageSupplier supplier) {
+        logSupplier(Log.WARN, site, TagCache.get(tag.getClass()), supplier);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Object tag, MessageSupplier supplier) {
+        logSupplier(Log.ERROR, site, TagCache.get(tag.getClass()), supplier);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Object tag, MessageSupplier supplier) {
+        logSupplier(Log.VERBOSE, site, TagCache.get(tag.getClass()), supplier);
+    }
+
+    public static void info(MessageSupplier supplier) {
+        logSupplier(Log.INFO, defaultTag(), supplier);
+    }
+
+    public static void debug(MessageSupplier supplier) {
+        logSupplier(Log.DEBUG, defaultTag(), supplier);
+    }
+
+    public static void warning(MessageSupplier supplier) {
+        logSupplier(Log.WARN, defaultTag(), supplier);
+    }
+
+    public static void error(MessageSupplier supplier) {
+        logSupplier(Log.ERROR, defaultTag(), supplier);
+    }
+
+    public static void verbose(MessageSupplier supplier) {
+        logSupplier(Log.VERBOSE, defaultTag(), supplier);
+    }
+
+    public static void info(@NonNull String tag, long value) {
+        logLong(Log.INFO, tag, null, value);
+    }
+
+    public static void debug(@NonNull String tag, long value) {
+        logLong(Log.DEBUG, tag, null, value);
+    }
+
+    public static void warning(@NonNull String tag, long value) {
+        logLong(Log.WARN, tag, null, value);
+    }
+
+    public static void error(@NonNull String tag, long value) {
+        logLong(Log.ERROR, tag, null, value);
+    }
+
+    public static void verbose(@NonNull String tag, long value) {
+        logLong(Log.VERBOSE, tag, null, value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull String tag, long value) {
+        logLong(Log.INFO, site, tag, null, value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull String tag, long value) {
+        logLong(Log.DEBUG, site, tag, null, value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull String tag, long value) {
+        logLong(Log.WARN, site, tag, null, value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull String tag, long value) {
+        logLong(Log.ERROR, site, tag, null, value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull String tag, long value) {
+        logLong(Log.VERBOSE, site, tag, null, value);
+    }
+
+    public static void info(@NonNull Class<?> tag, long value) {
+        logLong(Log.INFO, TagCache.get(tag), null, value);
+    }
+
+    public static void debug(@NonNull Class<?> tag, long value) {
+        logLong(Log.DEBUG, TagCache.get(tag), null, value);
+    }
+
+    public static void warning(@NonNull Class<?> tag, long value) {
+        logLong(Log.WARN, TagCache.get(tag), null, value);
+    }
+
+    public static void error(@NonNull Class<?> tag, long value) {
+        logLong(Log.ERROR, TagCache.get(tag), null, value);
+    }
+
+    public static void verbose(@NonNull Class<?> tag, long value) {
+        logLong(Log.VERBOSE, TagCache.get(tag), null, value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Class<?> tag, long value) {
+        logLong(Log.INFO, site, TagCache.get(tag), null, value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Class<?> tag, long value) {
+        logLong(Log.DEBUG, site, TagCache.get(tag), null, value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Class<?> tag, long value) {
+        logLong(Log.WARN, site, TagCache.get(tag), null, value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Class<?> tag, long value) {
+        logLong(Log.ERROR, site, TagCache.get(tag), null, value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Class<?> tag, long value) {
+        logLong(Log.VERBOSE, site, TagCache.get(tag), null, value);
+    }
+
+    public static void info(@NonNull Object tag, long value) {
+        logLong(Log.INFO, TagCache.get(tag.getClass()), null, value);
+    }
+
+    public static void debug(@NonNull Object tag, long value) {
+        logLong(Log.DEBUG, TagCache.get(tag.getClass()), null, value);
+    }
+
+    public static void warning(@NonNull Object tag, long value) {
+        logLong(Log.WARN, TagCache.get(tag.getClass()), null, value);
+    }
+
+    public static void error(@NonNull Object tag, long value) {
+        logLong(Log.ERROR, TagCache.get(tag.getClass()), null, value);
+    }
+
+    public static void verbose(@NonNull Object tag, long value) {
+        logLong(Log.VERBOSE, TagCache.get(tag.getClass()), null, value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Object tag, long value) {
+        logLong(Log.INFO, site, TagCache.get(tag.getClass()), null, value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Object tag, long value) {
+        logLong(Log.DEBUG, site, TagCache.get(tag.getClass()), null, value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Object tag, long value) {
+        logLong(Log.WARN, site, TagCache.get(tag.getClass()), null, value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Object tag, long value) {
+        logLong(Log.ERROR, site, TagCache.get(tag.getClass()), null, value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Object tag, long value) {
+        logLong(Log.VERBOSE, site, TagCache.get(tag.getClass()), null, value);
+    }
+
+    public static void info(long value) {
+        logLong(Log.INFO, defaultTag(), null, value);
+    }
+
+    public static void debug(long value) {
+        logLong(Log.DEBUG, defaultTag(), null, value);
+    }
+
+    public static void warning(long value) {
+        logLong(Log.WARN, defaultTag(), null, value);
+    }
+
+    public static void error(long value) {
+        logLong(Log.ERROR, defaultTag(), null, value);
+    }
+
+    public static void verbose(long value) {
+        logLong(Log.VERBOSE, defaultTag(), null, value);
+    }
+
+    public static void info(@NonNull String tag, double value) {
+        logDouble(Log.INFO, tag, value);
+    }
+
+    public static void debug(@NonNull String tag, double value) {
+        logDouble(Log.DEBUG, tag, value);
+    }
+
+    public static void warning(@NonNull String tag, double value) {
+        logDouble(Log.WARN, tag, value);
+    }
+
+    public static void error(@NonNull String tag, double value) {
+        logDouble(Log.ERROR, tag, value);
+    }
+
+    public static void verbose(@NonNull String tag, double value) {
+        logDouble(Log.VERBOSE, tag, value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull String tag, double value) {
+        logDouble(Log.INFO, site, tag, value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull String tag, double value) {
+        logDouble(Log.DEBUG, site, tag, value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull String tag, double value) {
+        logDouble(Log.WARN, site, tag, value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull String tag, double value) {
+        logDouble(Log.ERROR, site, tag, value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull String tag, double value) {
+        logDouble(Log.VERBOSE, site, tag, value);
+    }
+
+    public static void info(@NonNull Class<?> tag, double value) {
+        logDouble(Log.INFO, TagCache.get(tag), value);
+    }
+
+    public static void debug(@NonNull Class<?> tag, double value) {
+        logDouble(Log.DEBUG, TagCache.get(tag), value);
+    }
+
+    public static void warning(@NonNull Class<?> tag, double value) {
+        logDouble(Log.WARN, TagCache.get(tag), value);
+    }
+
+    public static void error(@NonNull Class<?> tag, double value) {
+        logDouble(Log.ERROR, TagCache.get(tag), value);
+    }
+
+    public static void verbose(@NonNull Class<?> tag, double value) {
+        logDouble(Log.VERBOSE, TagCache.get(tag), value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Class<?> tag, double value) {
+        logDouble(Log.INFO, site, TagCache.get(tag), value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Class<?> tag, double value) {
+        logDouble(Log.DEBUG, site, TagCache.get(tag), value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Class<?> tag, double value) {
+        logDouble(Log.WARN, site, TagCache.get(tag), value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Class<?> tag, double value) {
+        logDouble(Log.ERROR, site, TagCache.get(tag), value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Class<?> tag, double value) {
+        logDouble(Log.VERBOSE, site, TagCache.get(tag), value);
+    }
+
+    public static void info(@NonNull Object tag, double value) {
+        logDouble(Log.INFO, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void debug(@NonNull Object tag, double value) {
+        logDouble(Log.DEBUG, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void warning(@NonNull Object tag, double value) {
+        logDouble(Log.WARN, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void error(@NonNull Object tag, double value) {
+        logDouble(Log.ERROR, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void verbose(@NonNull Object tag, double value) {
+        logDouble(Log.VERBOSE, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Object tag, double value) {
+        logDouble(Log.INFO, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Object tag, double value) {
+        logDouble(Log.DEBUG, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Object tag, double value) {
+        logDouble(Log.WARN, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Object tag, double value) {
+        logDouble(Log.ERROR, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Object tag, double value) {
+        logDouble(Log.VERBOSE, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void info(double value) {
+        logDouble(Log.INFO, defaultTag(), value);
+    }
+
+    public static void debug(double value) {
+        logDouble(Log.DEBUG, defaultTag(), value);
+    }
+
+    public static void warning(double value) {
+        logDouble(Log.WARN, defaultTag(), value);
+    }
+
+    public static void error(double value) {
+        logDouble(Log.ERROR, defaultTag(), value);
+    }
+
+    public static void verbose(double value) {
+        logDouble(Log.VERBOSE, defaultTag(), value);
+    }
+
+    public static void info(@NonNull String tag, float value) {
+        logFloat(Log.INFO, tag, value);
+    }
+
+    public static void debug(@NonNull String tag, float value) {
+        logFloat(Log.DEBUG, tag, value);
+    }
+
+    public static void warning(@NonNull String tag, float value) {
+        logFloat(Log.WARN, tag, value);
+    }
+
+    public static void error(@NonNull String tag, float value) {
+        logFloat(Log.ERROR, tag, value);
+    }
+
+    public static void verbose(@NonNull String tag, float value) {
+        logFloat(Log.VERBOSE, tag, value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull String tag, float value) {
+        logFloat(Log.INFO, site, tag, value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull String tag, float value) {
+        logFloat(Log.DEBUG, site, tag, value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull String tag, float value) {
+        logFloat(Log.WARN, site, tag, value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull String tag, float value) {
+        logFloat(Log.ERROR, site, tag, value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull String tag, float value) {
+        logFloat(Log.VERBOSE, site, tag, value);
+    }
+
+    public static void info(@NonNull Class<?> tag, float value) {
+        logFloat(Log.INFO, TagCache.get(tag), value);
+    }
+
+    public static void debug(@NonNull Class<?> tag, float value) {
+        logFloat(Log.DEBUG, TagCache.get(tag), value);
+    }
+
+    public static void warning(@NonNull Class<?> tag, float value) {
+        logFloat(Log.WARN, TagCache.get(tag), value);
+    }
+
+    public static void error(@NonNull Class<?> tag, float value) {
+        logFloat(Log.ERROR, TagCache.get(tag), value);
+    }
+
+    public static void verbose(@NonNull Class<?> tag, float value) {
+        logFloat(Log.VERBOSE, TagCache.get(tag), value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Class<?> tag, float value) {
+        logFloat(Log.INFO, site, TagCache.get(tag), value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Class<?> tag, float value) {
+        logFloat(Log.DEBUG, site, TagCache.get(tag), value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Class<?> tag, float value) {
+        logFloat(Log.WARN, site, TagCache.get(tag), value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Class<?> tag, float value) {
+        logFloat(Log.ERROR, site, TagCache.get(tag), value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Class<?> tag, float value) {
+        logFloat(Log.VERBOSE, site, TagCache.get(tag), value);
+    }
+
+    public static void info(@NonNull Object tag, float value) {
+        logFloat(Log.INFO, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void debug(@NonNull Object tag, float value) {
+        logFloat(Log.DEBUG, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void warning(@NonNull Object tag, float value) {
+        logFloat(Log.WARN, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void error(@NonNull Object tag, float value) {
+        logFloat(Log.ERROR, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void verbose(@NonNull Object tag, float value) {
+        logFloat(Log.VERBOSE, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Object tag, float value) {
+        logFloat(Log.INFO, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Object tag, float value) {
+        logFloat(Log.DEBUG, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Object tag, float value) {
+        logFloat(Log.WARN, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Object tag, float value) {
+        logFloat(Log.ERROR, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Object tag, float value) {
+        logFloat(Log.VERBOSE, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void info(float value) {
+        logFloat(Log.INFO, defaultTag(), value);
+    }
+
+    public static void debug(float value) {
+        logFloat(Log.DEBUG, defaultTag(), value);
+    }
+
+    public static void warning(float value) {
+        logFloat(Log.WARN, defaultTag(), value);
+    }
+
+    public static void error(float value) {
+        logFloat(Log.ERROR, defaultTag(), value);
+    }
+
+    public static void verbose(float value) {
+        logFloat(Log.VERBOSE, defaultTag(), value);
+    }
+
+    public static void info(@NonNull String tag, char value) {
+        logChar(Log.INFO, tag, value);
+    }
+
+    public static void debug(@NonNull String tag, char value) {
+        logChar(Log.DEBUG, tag, value);
+    }
+
+    public static void warning(@NonNull String tag, char value) {
+        logChar(Log.WARN, tag, value);
+    }
+
+    public static void error(@NonNull String tag, char value) {
+        logChar(Log.ERROR, tag, value);
+    }
+
+    public static void verbose(@NonNull String tag, char value) {
+        logChar(Log.VERBOSE, tag, value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull String tag, char value) {
+        logChar(Log.INFO, site, tag, value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull String tag, char value) {
+        logChar(Log.DEBUG, site, tag, value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull String tag, char value) {
+        logChar(Log.WARN, site, tag, value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull String tag, char value) {
+        logChar(Log.ERROR, site, tag, value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull String tag, char value) {
+        logChar(Log.VERBOSE, site, tag, value);
+    }
+
+    public static void info(@NonNull Class<?> tag, char value) {
+        logChar(Log.INFO, TagCache.get(tag), value);
+    }
+
+    public static void debug(@NonNull Class<?> tag, char value) {
+        logChar(Log.DEBUG, TagCache.get(tag), value);
+    }
+
+    public static void warning(@NonNull Class<?> tag, char value) {
+        logChar(Log.WARN, TagCache.get(tag), value);
+    }
+
+    public static void error(@NonNull Class<?> tag, char value) {
+        logChar(Log.ERROR, TagCache.get(tag), value);
+    }
+
+    public static void verbose(@NonNull Class<?> tag, char value) {
+        logChar(Log.VERBOSE, TagCache.get(tag), value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Class<?> tag, char value) {
+        logChar(Log.INFO, site, TagCache.get(tag), value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Class<?> tag, char value) {
+        logChar(Log.DEBUG, site, TagCache.get(tag), value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Class<?> tag, char value) {
+        logChar(Log.WARN, site, TagCache.get(tag), value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Class<?> tag, char value) {
+        logChar(Log.ERROR, site, TagCache.get(tag), value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Class<?> tag, char value) {
+        logChar(Log.VERBOSE, site, TagCache.get(tag), value);
+    }
+
+    public static void info(@NonNull Object tag, char value) {
+        logChar(Log.INFO, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void debug(@NonNull Object tag, char value) {
+        logChar(Log.DEBUG, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void warning(@NonNull Object tag, char value) {
+        logChar(Log.WARN, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void error(@NonNull Object tag, char value) {
+        logChar(Log.ERROR, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void verbose(@NonNull Object tag, char value) {
+        logChar(Log.VERBOSE, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Object tag, char value) {
+        logChar(Log.INFO, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Object tag, char value) {
+        logChar(Log.DEBUG, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Object tag, char value) {
+        logChar(Log.WARN, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Object tag, char value) {
+        logChar(Log.ERROR, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Object tag, char value) {
+        logChar(Log.VERBOSE, site, TagCache.get(tag.getClass()), value);
+    }
+
+    public static void info(char value) {
+        logChar(Log.INFO, defaultTag(), value);
+    }
+
+    public static void debug(char value) {
+        logChar(Log.DEBUG, defaultTag(), value);
+    }
+
+    public static void warning(char value) {
+        logChar(Log.WARN, defaultTag(), value);
+    }
+
+    public static void error(char value) {
+        logChar(Log.ERROR, defaultTag(), value);
+    }
+
+    public static void verbose(char value) {
+        logChar(Log.VERBOSE, defaultTag(), value);
+    }
+
+    public static void info(boolean value) {
+        logBoolean(Log.INFO, defaultTag(), value);
+    }
+
+    public static void debug(boolean value) {
+        logBoolean(Log.DEBUG, defaultTag(), value);
+    }
+
+    public static void warning(boolean value) {
+        logBoolean(Log.WARN, defaultTag(), value);
+    }
+
+    public static void error(boolean value) {
+        logBoolean(Log.ERROR, defaultTag(), value);
+    }
+
+    public static void verbose(boolean value) {
+        logBoolean(Log.VERBOSE, defaultTag(), value);
+    }
+
+    public static void info(@NonNull String tag, String prefix, long value) {
+        logLong(Log.INFO, tag, prefix, value);
+    }
+
+    public static void debug(@NonNull String tag, String prefix, long value) {
+        logLong(Log.DEBUG, tag, prefix, value);
+    }
+
+    public static void warning(@NonNull String tag, String prefix, long value) {
+        logLong(Log.WARN, tag, prefix, value);
+    }
+
+    public static void error(@NonNull String tag, String prefix, long value) {
+        logLong(Log.ERROR, tag, prefix, value);
+    }
+
+    public static void verbose(@NonNull String tag, String prefix, long value) {
+        logLong(Log.VERBOSE, tag, prefix, value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull String tag, String prefix, long value) {
+        logLong(Log.INFO, site, tag, prefix, value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull String tag, String prefix, long value) {
+        logLong(Log.DEBUG, site, tag, prefix, value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull String tag, String prefix, long value) {
+        logLong(Log.WARN, site, tag, prefix, value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull String tag, String prefix, long value) {
+        logLong(Log.ERROR, site, tag, prefix, value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull String tag, String prefix, long value) {
+        logLong(Log.VERBOSE, site, tag, prefix, value);
+    }
+
+    public static void info(@NonNull Class<?> tag, String prefix, long value) {
+        logLong(Log.INFO, TagCache.get(tag), prefix, value);
+    }
+
+    public static void debug(@NonNull Class<?> tag, String prefix, long value) {
+        logLong(Log.DEBUG, TagCache.get(tag), prefix, value);
+    }
+
+    public static void warning(@NonNull Class<?> tag, String prefix, long value) {
+        logLong(Log.WARN, TagCache.get(tag), prefix, value);
+    }
+
+    public static void error(@NonNull Class<?> tag, String prefix, long value) {
+        logLong(Log.ERROR, TagCache.get(tag), prefix, value);
+    }
+
+    public static void verbose(@NonNull Class<?> tag, String prefix, long value) {
+        logLong(Log.VERBOSE, TagCache.get(tag), prefix, value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Class<?> tag, String prefix, long value) {
+        logLong(Log.INFO, site, TagCache.get(tag), prefix, value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Class<?> tag, String prefix, long value) {
+        logLong(Log.DEBUG, site, TagCache.get(tag), prefix, value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Class<?> tag, String prefix, long value) {
+        logLong(Log.WARN, site, TagCache.get(tag), prefix, value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Class<?> tag, String prefix, long value) {
+        logLong(Log.ERROR, site, TagCache.get(tag), prefix, value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Class<?> tag, String prefix, long value) {
+        logLong(Log.VERBOSE, site, TagCache.get(tag), prefix, value);
+    }
+
+    public static void info(@NonNull Object tag, String prefix, long value) {
+        logLong(Log.INFO, TagCache.get(tag.getClass()), prefix, value);
+    }
+
+    public static void debug(@NonNull Object tag, String prefix, long value) {
+        logLong(Log.DEBUG, TagCache.get(tag.getClass()), prefix, value);
+    }
+
+    public static void warning(@NonNull Object tag, String prefix, long value) {
+        logLong(Log.WARN, TagCache.get(tag.getClass()), prefix, value);
+    }
+
+    public static void error(@NonNull Object tag, String prefix, long value) {
+        logLong(Log.ERROR, TagCache.get(tag.getClass()), prefix, value);
+    }
+
+    public static void verbose(@NonNull Object tag, String prefix, long value) {
+        logLong(Log.VERBOSE, TagCache.get(tag.getClass()), prefix, value);
+    }
+
+    public static void info(@NonNull LogSite site, @NonNull Object tag, String prefix, long value) {
+        logLong(Log.INFO, site, TagCache.get(tag.getClass()), prefix, value);
+    }
+
+    public static void debug(@NonNull LogSite site, @NonNull Object tag, String prefix, long value) {
+        logLong(Log.DEBUG, site, TagCache.get(tag.getClass()), prefix, value);
+    }
+
+    public static void warning(@NonNull LogSite site, @NonNull Object tag, String prefix, long value) {
+        logLong(Log.WARN, site, TagCache.get(tag.getClass()), prefix, value);
+    }
+
+    public static void error(@NonNull LogSite site, @NonNull Object tag, String prefix, long value) {
+        logLong(Log.ERROR, site, TagCache.get(tag.getClass()), prefix, value);
+    }
+
+    public static void verbose(@NonNull LogSite site, @NonNull Object tag, String prefix, long value) {
+        logLong(Log.VERBOSE, site, TagCache.get(tag.getClass()), prefix, value);
+    }
+
+    @NonNull
+    public static LogEvent atInfo(@NonNull String tag) {
+        return event(Log.INFO, tag);
+    }
+
+    @NonNull
+    public static LogEvent atDebug(@NonNull String tag) {
+        return event(Log.DEBUG, tag);
+    }
+
+    @NonNull
+    public static LogEvent atWarning(@NonNull String tag) {
+        return event(Log.WARN, tag);
+    }
+
+    @NonNull
+    public static LogEvent atError(@NonNull String tag) {
+        return event(Log.ERROR, tag);
+    }
+
+    @NonNull
+    public static LogEvent atVerbose(@NonNull String tag) {
+        return event(Log.VERBOSE, tag);
+    }
+
+    @NonNull
+    public static LogEvent atInfo(@NonNull Class<?> tag) {
+        return event(Log.INFO, TagCache.get(tag));
+    }
+
+    @NonNull
+    public static LogEvent atDebug(@NonNull Class<?> tag) {
+        return event(Log.DEBUG, TagCache.get(tag));
+    }
+
+    @NonNull
+    public static LogEvent atWarning(@NonNull Class<?> tag) {
+        return event(Log.WARN, TagCache.get(tag));
+    }
+
+    @NonNull
+    public static LogEvent atError(@NonNull Class<?> tag) {
+        return event(Log.ERROR, TagCache.get(tag));
+    }
+
+    @NonNull
+    public static LogEvent atVerbose(@NonNull Class<?> tag) {
+        return event(Log.VERBOSE, TagCache.get(tag));
+    }
+
+    @NonNull
+    public static LogEvent atInfo(@NonNull Object tag) {
+        return event(Log.INFO, TagCache.get(tag.getClass()));
+    }
+
+    @NonNull
+    public static LogEvent atDebug(@NonNull Object tag) {
+        return event(Log.DEBUG, TagCache.get(tag.getClass()));
+    }
+
+    @NonNull
+    public static LogEvent atWarning(@NonNull Object tag) {
+        return event(Log.WARN, TagCache.get(tag.getClass()));
+    }
+
+    @NonNull
+    public static LogEvent atError(@NonNull Object tag) {
+        return event(Log.ERROR, TagCache.get(tag.getClass()));
+    }
+
+    @NonNull
+    public static LogEvent atVerbose(@NonNull Object tag) {
+        return event(Log.VERBOSE, TagCache.get(tag.getClass()));
+    }
+
+    @NonNull
+    public static LogEvent atInfo() {
+        return event(Log.INFO, defaultTag());
+    }
+
+    @NonNull
+    public static LogEvent atDebug() {
+        return event(Log.DEBUG, defaultTag());
+    }
+
+    @NonNull
+    public static LogEvent atWarning() {
+        return event(Log.WARN, defaultTag());
+    }
+
+    @NonNull
+    public static LogEvent atError() {
+        return event(Log.ERROR, defaultTag());
+    }
+
+    @NonNull
+    public static LogEvent atVerbose() {
+        return event(Log.VERBOSE, defaultTag());
+    }
+
+    public static final class Span implements AutoCloseable {
+        public static final Span NOOP = new Span(null, 0);
+
+        private final SpanStack stack;
+        private final int depth;
+        private String tag;
+        private String name;
+        private long start;
+
+        Span(SpanStack stack, int depth) {
+            this.stack = stack;
+            this.depth = depth;
+        }
+
+        void open(@NonNull String tag, @NonNull String name) {
+            this.tag = tag;
+            this.name = name;
+            this.start = System.nanoTime();
+        }
+
+        void reset() {
+            tag = null;
+            name = null;
+        }
+
+        @Override
+        public void close() {
+            if (name == null) {
+                return;
+            }
+            long duration = System.nanoTime() - start;
+            String tag = this.tag;
+            String name = this.name;
+            stack.pop(depth);
+            closeSpan(tag, name, start, duration, depth);
+        }
     }
 }
@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+public final class LogConfig {
+    private static final String LEVEL = "level";
+    private static final String LEVEL_PREFIX = "level.";
+    private static final String RATE_PREFIX = "rate.";
+    private static final String SINKS = "sinks";
+    private static final String TAG = "tag";
+
+    private final int level;
+    private final Map<String, Integer> tagLevels;
+    private final List<RateLimit> rateLimits;
+    private final List<String> sinkNames;
+    private final String defaultTag;
+
+    private LogConfig(int level, Map<String, Integer> tagLevels, List<RateLimit> rateLimits, List<String> sinkNames,
+                      String defaultTag) {
+        this.level = level;
+        this.tagLevels = tagLevels;
+        this.rateLimits = rateLimits;
+        this.sinkNames = sinkNames;
+        this.defaultTag = defaultTag;
+    }
+
+    @NonNull
+    public static LogConfig load(@NonNull File file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream input = new FileInputStream(file)) {
+            properties.load(input);
+        }
+        return fromProperties(properties);
+    }
+
+    @NonNull
+    public static LogConfig fromProperties(@NonNull Properties properties) {
+        int level = Log.VERBOSE;
+        Map<String, Integer> tagLevels = new HashMap<>();
+        List<RateLimit> rateLimits = new ArrayList<>();
+        List<String> sinkNames = null;
+        String defaultTag = null;
+        for (String key : properties.stringPropertyNames()) {
+            String value = properties.getProperty(key).trim();
+            if (key.equals(LEVEL)) {
+                level = parseLevel(value);
+            } else if (key.startsWith(LEVEL_PREFIX) && key.length() > LEVEL_PREFIX.length()) {
+                tagLevels.put(key.substring(LEVEL_PREFIX.length()), parseLevel(value));
+            } else if (key.startsWith(RATE_PREFIX)) {
+                rateLimits.add(parseRateLimit(key, value));
+            } else if (key.equals(SINKS)) {
+                sinkNames = new ArrayList<>();
+                for (String name : value.split(",")) {
+                    if (!name.trim().isEmpty()) {
+                        sinkNames.add(name.trim());
+                    }
+                }
+                sinkNames = Collections.unmodifiableList(sinkNames);
+            } else if (key.equals(TAG)) {
+                if (value.isEmpty()) {
+                    throw new IllegalArgumentException("Default tag must not be empty");
+                }
+                defaultTag = value;
+            } else {
+                throw new IllegalArgumentException("Unknown configuration key: " + key);
+            }
+        }
+        return new LogConfig(level, Collections.unmodifiableMap(tagLevels),
+                Collections.unmodifiableList(rateLimits), sinkNames, defaultTag);
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    @NonNull
+    public Map<String, Integer> getTagLevels() {
+        return tagLevels;
+    }
+
+    public List<String> getSinkNames() {
+        return sinkNames;
+    }
+
+    public String getDefaultTag() {
+        return defaultTag;
+    }
+
+    @NonNull
+    List<RateLimit> getRateLimits() {
+        return rateLimits;
+    }
+
+    private static int parseLevel(@NonNull String value) {
+        switch (value.toUpperCase(Locale.US)) {
+            case "VERBOSE":
+            case "V":
+                return Log.VERBOSE;
+            case "DEBUG":
+            case "D":
+                return Log.DEBUG;
+            case "INFO":
+            case "I":
+                return Log.INFO;
+            case "WARN":
+            case "WARNING":
+            case "W":
+                return Log.WARN;
+            case "ERROR":
+            case "E":
+                return Log.ERROR;
+            case "ASSERT":
+            case "A":
+                return Log.ASSERT;
+            case "OFF":
+                return ConfigSnapshot.RECORDER_DISABLED;
+            default:
+                throw new IllegalArgumentException("Unknown level: " + value);
+        }
+    }
+
+    @NonNull
+    private static RateLimit parseRateLimit(@NonNull String key, @NonNull String value) {
+        int separator = key.lastIndexOf('.');
+        if (separator <= RATE_PREFIX.length()) {
+            throw new IllegalArgumentException("Rate limit key must be rate.<tag>.<level>: " + key);
+        }
+        int priority = parseLevel(key.substring(separator + 1));
+        if (priority > Log.ASSERT) {
+            throw new IllegalArgumentException("Rate limit level must not be OFF: " + key);
+        }
+        String[] parts = value.split(",");
+        if (parts.length > 3) {
+            throw new IllegalArgumentException("Rate limit must be rps[,burst[,sampleRate]]: " + value);
+        }
+        try {
+            int recordsPerSecond = Integer.parseInt(parts[0].trim());
+            int burst = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : recordsPerSecond;
+            int sampleRate = parts.length > 2 ? Integer.parseInt(parts[2].trim()) : 0;
+            if (recordsPerSecond <= 0 || burst <= 0 || sampleRate < 0) {
+                throw new IllegalArgumentException("Rate and burst must be positive and sample rate must not be "
+                        + "negative: " + value);
+            }
+            return new RateLimit(key.substring(RATE_PREFIX.length(), separator), priority, recordsPerSecond, burst,
+                    sampleRate);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Rate limit must be rps[,burst[,sampleRate]]: " + value, e);
+        }
+    }
+
+    static final class RateLimit {
+        final String tag;
+        final int priority;
+        final int recordsPerSecond;
+        final int burst;
+        final int sampleRate;
+
+        RateLimit(@NonNull String tag, int priority, int recordsPerSecond, int burst, int sampleRate) {
+            this.tag = tag;
+            this.priority = priority;
+            this.recordsPerSecond = recordsPerSecond;
+            this.burst = burst;
+            this.sampleRate = sampleRate;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+public final class LogContext {
+    private static final ThreadLocal<LogContext> CURRENT = new ThreadLocal<>();
+
+    private final String key;
+    private final String value;
+    private final LogContext parent;
+    private final int size;
+
+    private LogContext(@NonNull String key, @NonNull String value, LogContext parent) {
+        this.key = key;
+        this.value = value;
+        this.parent = parent;
+        this.size = parent != null ? parent.size + 1 : 1;
+    }
+
+    public static void put(@NonNull String key, String value) {
+        LogContext current = CURRENT.get();
+        if (value != null) {
+            CURRENT.set(new LogContext(key, value, without(current, key)));
+        } else if (current != null) {
+            CURRENT.set(without(current, key));
+        }
+    }
+
+    public static String get(@NonNull String key) {
+        LogContext current = CURRENT.get();
+        return current != null ? current.getValue(key) : null;
+    }
+
+    public static void remove(@NonNull String key) {
+        put(key, null);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static LogContext current() {
+        return CURRENT.get();
+    }
+
+    @NonNull
+    public static Runnable wrap(@NonNull Runnable task) {
+        LogContext context = CURRENT.get();
+        return () -> {
+            LogContext previous = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                task.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    @NonNull
+    public static <V> Callable<V> wrap(@NonNull Callable<V> task) {
+        LogContext context = CURRENT.get();
+        return () -> {
+            LogContext previous = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                return task.call();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    @NonNull
+    public static Executor wrap(@NonNull Executor executor) {
+        return command -> executor.execute(wrap(command));
+    }
+
+    @NonNull
+    public String getKey() {
+        return key;
+    }
+
+    @NonNull
+    public String getValue() {
+        return value;
+    }
+
+    public LogContext getParent() {
+        return parent;
+    }
+
+    public String getValue(@NonNull String key) {
+        for (LogContext context = this; context != null; context = context.parent) {
+            if (context.key.equals(key)) {
+                return context.value;
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    void appendTo(@NonNull StringBuilder builder) {
+        if (parent != null) {
+            parent.appendTo(builder);
+            builder.append(' ');
+        }
+        builder.append(key).append('=');
+        LogFields.appendQuoted(builder, value);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        appendTo(builder);
+        return builder.toString();
+    }
+
+    private static LogContext without(LogContext context, @NonNull String key) {
+        if (context == null) {
+            return null;
+        }
+        if (context.key.equals(key)) {
+            return context.parent;
+        }
+        LogContext parent = without(context.parent, key);
+        return parent == context.parent ? context : new LogContext(context.key, context.value, parent);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+public final class LogCounters {
+    private final long recordCount;
+    private final long byteCount;
+    private final long droppedCount;
+    private final long filteredCount;
+    private final long[] latencyHistogram;
+
+    LogCounters(long recordCount, long byteCount, long droppedCount, long filteredCount,
+                @NonNull long[] latencyHistogram) {
+        this.recordCount = recordCount;
+        this.byteCount = byteCount;
+        this.droppedCount = droppedCount;
+        this.filteredCount = filteredCount;
+        this.latencyHistogram = latencyHistogram;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    public long getFilteredCount() {
+        return filteredCount;
+    }
+
+    @NonNull
+    public long[] getLatencyHistogram() {
+        return latencyHistogram.clone();
+    }
+
+    public static int getLatencyBucketCount() {
+        return MetricsCell.BUCKET_COUNT;
+    }
+
+    public static long getLatencyBucketUpperBoundNanos(int bucket) {
+        if (bucket < 0 || bucket >= MetricsCell.BUCKET_COUNT) {
+            throw new IndexOutOfBoundsException("Bucket: " + bucket);
+        }
+        return bucket == MetricsCell.BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << (MetricsCell.BUCKET_BASE_SHIFT + bucket);
+    }
+
+    public long getLatencyPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        long total = 0;
+        for (long count : latencyHistogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < latencyHistogram.length; i++) {
+            seen += latencyHistogram[i];
+            if (seen >= rank) {
+                return getLatencyBucketUpperBoundNanos(i);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "LogCounters{" +
+                "recordCount=" + recordCount +
+                ", byteCount=" + byteCount +
+                ", droppedCount=" + droppedCount +
+                ", filteredCount=" + filteredCount +
+                ", latencyHistogram=" + Arrays.toString(latencyHistogram) +
+                '}';
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+public final class LogEvent {
+    public static final LogEvent NOOP = new LogEvent(false);
+
+    private static final ThreadLocal<LogEvent> EVENT = new ThreadLocal<LogEvent>() {
+        @Override
+        protected LogEvent initialValue() {
+            return new LogEvent(true);
+        }
+    };
+
+    private final boolean enabled;
+    private final LogFields fields;
+    private int priority;
+    private String tag;
+    private LogSite site;
+    private boolean inUse;
+
+    private LogEvent(boolean enabled) {
+        this.enabled = enabled;
+        this.fields = enabled ? new LogFields() : null;
+    }
+
+    @NonNull
+    static LogEvent obtain(int priority, String tag) {
+        LogEvent event = EVENT.get();
+        if (event.inUse) {
+            // Either a nested event or an abandoned chain; the holder of the
+            // busy event keeps its reference, so the pool moves on to this one
+            event = new LogEvent(true);
+            EVENT.set(event);
+        }
+        event.inUse = true;
+        event.priority = priority;
+        event.tag = tag;
+        return event;
+    }
+
+    @NonNull
+    public LogEvent at(@NonNull LogSite site) {
+        if (enabled) {
+            this.site = site;
+        }
+        return this;
+    }
+
+    @NonNull
+    public LogEvent kv(@NonNull String key, long value) {
+        if (enabled) {
+            fields.add(key, LogFields.TYPE_LONG, value);
+        }
+        return this;
+    }
+
+    @NonNull
+    public LogEvent kv(@NonNull String key, double value) {
+        if (enabled) {
+            fields.add(key, LogFields.TYPE_DOUBLE, Double.doubleToRawLongBits(value));
+        }
+        return this;
+    }
+
+    @NonNull
+    public LogEvent kv(@NonNull String key, float value) {
+        if (enabled) {
+            fields.add(key, LogFields.TYPE_FLOAT, Float.floatToRawIntBits(value));
+        }
+        return this;
+    }
+
+    @NonNull
+    public LogEvent kv(@NonNull String key, boolean value) {
+        if (enabled) {
+            fields.add(key, LogFields.TYPE_BOOLEAN, value ? 1 : 0);
+        }
+        return this;
+    }
+
+    @NonNull
+    public LogEvent kv(@NonNull String key, char value) {
+        if (enabled) {
+            fields.add(key, LogFields.TYPE_CHAR, value);
+        }
+        return this;
+    }
+
+    @NonNull
+    public LogEvent kv(@NonNull String key, Object value) {
+        if (enabled) {
+            fields.add(key, value);
+        }
+        return this;
+    }
+
+    public void log(String message) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LogCompat.locate(site);
+            LogCompat.println(priority, tag, message, null, fields);
+        } finally {
+            fields.clear();
+            tag = null;
+            site = null;
+            inUse = false;
+        }
+    }
+}
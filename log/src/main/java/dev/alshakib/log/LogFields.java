@@ -0,0 +1,237 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+public final class LogFields {
+    public static final int TYPE_LONG = 0;
+    public static final int TYPE_DOUBLE = 1;
+    public static final int TYPE_FLOAT = 2;
+    public static final int TYPE_BOOLEAN = 3;
+    public static final int TYPE_CHAR = 4;
+    public static final int TYPE_OBJECT = 5;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private int[] types = new int[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private Object[] objects = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    LogFields() { }
+
+    public int size() {
+        return size;
+    }
+
+    @NonNull
+    public String getKey(int index) {
+        checkIndex(index);
+        return keys[index];
+    }
+
+    public int getType(int index) {
+        checkIndex(index);
+        return types[index];
+    }
+
+    public long getLong(int index) {
+        checkIndex(index);
+        switch (types[index]) {
+            case TYPE_DOUBLE:
+                return (long) Double.longBitsToDouble(values[index]);
+            case TYPE_FLOAT:
+                return (long) Float.intBitsToFloat((int) values[index]);
+            default:
+                return values[index];
+        }
+    }
+
+    public double getDouble(int index) {
+        checkIndex(index);
+        switch (types[index]) {
+            case TYPE_DOUBLE:
+                return Double.longBitsToDouble(values[index]);
+            case TYPE_FLOAT:
+                return Float.intBitsToFloat((int) values[index]);
+            default:
+                return values[index];
+        }
+    }
+
+    public boolean getBoolean(int index) {
+        checkIndex(index);
+        return values[index] != 0;
+    }
+
+    public Object getValue(int index) {
+        checkIndex(index);
+        switch (types[index]) {
+            case TYPE_LONG:
+                return values[index];
+            case TYPE_DOUBLE:
+                return Double.longBitsToDouble(values[index]);
+            case TYPE_FLOAT:
+                return Float.intBitsToFloat((int) values[index]);
+            case TYPE_BOOLEAN:
+                return values[index] != 0;
+            case TYPE_CHAR:
+                return (char) values[index];
+            default:
+                return objects[index];
+        }
+    }
+
+    long getRawValue(int index) {
+        return values[index];
+    }
+
+    void add(@NonNull String key, int type, long value) {
+        ensureCapacity();
+        keys[size] = key;
+        types[size] = type;
+        values[size] = value;
+        size++;
+    }
+
+    void add(@NonNull String key, Object value) {
+        ensureCapacity();
+        keys[size] = key;
+        types[size] = TYPE_OBJECT;
+        objects[size] = value;
+        size++;
+    }
+
+    void copyFrom(@NonNull LogFields other) {
+        clear();
+        while (keys.length < other.size) {
+            grow();
+        }
+        System.arraycopy(other.keys, 0, keys, 0, other.size);
+        System.arraycopy(other.types, 0, types, 0, other.size);
+        System.arraycopy(other.values, 0, values, 0, other.size);
+        System.arraycopy(other.objects, 0, objects, 0, other.size);
+        size = other.size;
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            keys[i] = null;
+            objects[i] = null;
+        }
+        size = 0;
+    }
+
+    void appendTo(@NonNull StringBuilder builder) {
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(keys[i]).append('=');
+            switch (types[i]) {
+                case TYPE_LONG:
+                    builder.append(values[i]);
+                    break;
+                case TYPE_DOUBLE:
+                    builder.append(Double.longBitsToDouble(values[i]));
+                    break;
+                case TYPE_FLOAT:
+                    builder.append(Float.intBitsToFloat((int) values[i]));
+                    break;
+                case TYPE_BOOLEAN:
+                    builder.append(values[i] != 0);
+                    break;
+                case TYPE_CHAR:
+                    builder.append((char) values[i]);
+                    break;
+                default:
+                    appendQuoted(builder, String.valueOf(objects[i]));
+                    break;
+            }
+        }
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        appendTo(builder);
+        return builder.toString();
+    }
+
+    static void appendQuoted(@NonNull StringBuilder builder, @NonNull String value) {
+        boolean quote = value.isEmpty();
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c <= ' ' || c == '=' || c == '"';
+        }
+        if (!quote) {
+            builder.append(value);
+            return;
+        }
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\');
+            }
+            builder.append(c);
+        }
+        builder.append('"');
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    private void ensureCapacity() {
+        if (size == keys.length) {
+            grow();
+        }
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        String[] keys = new String[capacity];
+        int[] types = new int[capacity];
+        long[] values = new long[capacity];
+        Object[] objects = new Object[capacity];
+        System.arraycopy(this.keys, 0, keys, 0, size);
+        System.arraycopy(this.types, 0, types, 0, size);
+        System.arraycopy(this.values, 0, values, 0, size);
+        System.arraycopy(this.objects, 0, objects, 0, size);
+        this.keys = keys;
+        this.types = types;
+        this.values = values;
+        this.objects = objects;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class LogMetrics {
+    private static final ThreadLocal<long[]> START = new ThreadLocal<long[]>() {
+        @Override
+        protected long[] initialValue() {
+            return new long[1];
+        }
+    };
+
+    private final MetricsCell[] levels = new MetricsCell[Log.ASSERT + 1];
+    private final ConcurrentHashMap<String, MetricsCell> tags = new ConcurrentHashMap<>();
+
+    LogMetrics() {
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = new MetricsCell();
+        }
+    }
+
+    void begin() {
+        START.get()[0] = System.nanoTime();
+    }
+
+    void recorded(int priority, String tag, String message) {
+        long[] start = START.get();
+        long latency = start[0] != 0 ? System.nanoTime() - start[0] : -1;
+        start[0] = 0;
+        long bytes = Utf8.length(message);
+        levels[priority].recorded(bytes, latency);
+        getTag(tag).recorded(bytes, latency);
+    }
+
+    void dropped(int priority, String tag) {
+        levels[priority].dropped();
+        getTag(tag).dropped();
+    }
+
+    void filtered(int priority, String tag) {
+        START.get()[0] = 0;
+        levels[priority].filtered();
+        getTag(tag).filtered();
+    }
+
+    @NonNull
+    LogStats snapshot() {
+        LogCounters[] levelCounters = new LogCounters[levels.length];
+        for (int i = 0; i < levels.length; i++) {
+            levelCounters[i] = levels[i].snapshot();
+        }
+        Map<String, LogCounters> tagCounters = new HashMap<>();
+        for (Map.Entry<String, MetricsCell> entry : tags.entrySet()) {
+            tagCounters.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return new LogStats(levelCounters, Collections.unmodifiableMap(tagCounters));
+    }
+
+    @NonNull
+    private MetricsCell getTag(String tag) {
+        String key = String.valueOf(tag);
+        MetricsCell cell = tags.get(key);
+        if (cell == null) {
+            cell = new MetricsCell();
+            MetricsCell existing = tags.putIfAbsent(key, cell);
+            if (existing != null) {
+                cell = existing;
+            }
+        }
+        return cell;
+    }
+}
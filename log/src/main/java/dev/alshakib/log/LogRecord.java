@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+public final class LogRecord {
+    private int priority;
+    private String tag;
+    private String message;
+    private Throwable throwable;
+    private long timestamp;
+    private long threadId;
+    private LogFields fields;
+    private LogFields fieldStorage;
+    private LogContext context;
+
+    boolean inUse;
+
+    LogRecord() { }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getThreadId() {
+        return threadId;
+    }
+
+    public LogFields getFields() {
+        return fields;
+    }
+
+    public LogContext getContext() {
+        return context;
+    }
+
+    void set(int priority, String tag, String message, Throwable throwable, long timestamp, long threadId) {
+        this.priority = priority;
+        this.tag = tag;
+        this.message = message;
+        this.throwable = throwable;
+        this.timestamp = timestamp;
+        this.threadId = threadId;
+    }
+
+    void set(int priority, String tag, String message, Throwable throwable, long timestamp, long threadId,
+             LogFields fields, LogContext context) {
+        set(priority, tag, message, throwable, timestamp, threadId);
+        this.fields = fields;
+        this.context = context;
+    }
+
+    void set(@NonNull LogRecord record) {
+        set(record.priority, record.tag, record.message, record.throwable, record.timestamp, record.threadId);
+        copyFields(record.fields);
+        context = record.context;
+    }
+
+    void setContext(LogContext context) {
+        this.context = context;
+    }
+
+    void copyFields(LogFields fields) {
+        if (fields == null || fields.size() == 0) {
+            this.fields = null;
+            return;
+        }
+        if (fieldStorage == null) {
+            fieldStorage = new LogFields();
+        }
+        fieldStorage.copyFrom(fields);
+        this.fields = fieldStorage;
+    }
+
+    void appendMessage(@NonNull StringBuilder builder) {
+        builder.append(message);
+        if (context != null) {
+            builder.append(' ');
+            context.appendTo(builder);
+        }
+        if (fields != null && fields.size() > 0) {
+            builder.append(' ');
+            fields.appendTo(builder);
+        }
+    }
+
+    String formatMessage() {
+        if (context == null && (fields == null || fields.size() == 0)) {
+            return message;
+        }
+        StringBuilder builder = new StringBuilder();
+        appendMessage(builder);
+        return builder.toString();
+    }
+
+    void clear() {
+        tag = null;
+        message = null;
+        throwable = null;
+        fields = null;
+        context = null;
+        if (fieldStorage != null) {
+            fieldStorage.clear();
+        }
+    }
+
+    static char getPriorityChar(int priority) {
+        switch (priority) {
+            case Log.VERBOSE:
+                return 'V';
+            case Log.DEBUG:
+                return 'D';
+            case Log.INFO:
+                return 'I';
+            case Log.WARN:
+                return 'W';
+            case Log.ERROR:
+                return 'E';
+            case Log.ASSERT:
+                return 'A';
+            default:
+                return '?';
+        }
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "LogRecord{" +
+                "priority=" + getPriorityChar(priority) +
+                ", tag='" + tag + '\'' +
+                ", message='" + message + '\'' +
+                ", throwable=" + throwable +
+                ", timestamp=" + timestamp +
+                ", threadId=" + threadId +
+                ", fields=" + fields +
+                ", context=" + context +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.Map;
+
+public final class LogStats {
+    private final LogCounters[] levels;
+    private final Map<String, LogCounters> tags;
+
+    LogStats(@NonNull LogCounters[] levels, @NonNull Map<String, LogCounters> tags) {
+        this.levels = levels;
+        this.tags = tags;
+    }
+
+    @NonNull
+    public LogCounters getLevel(int priority) {
+        if (priority < Log.VERBOSE || priority > Log.ASSERT) {
+            throw new IllegalArgumentException("Unknown priority: " + priority);
+        }
+        return levels[priority];
+    }
+
+    @NonNull
+    public Map<String, LogCounters> getTags() {
+        return tags;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("LogStats{");
+        for (int priority = Log.VERBOSE; priority <= Log.ASSERT; priority++) {
+            builder.append(LogRecord.getPriorityChar(priority)).append('=').append(levels[priority]).append(", ");
+        }
+        return builder.append("tags=").append(tags).append('}').toString();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class LogcatSink implements LogSink {
+    private final StringBuilder batch = new StringBuilder(LogChunker.MAX_PAYLOAD_BYTES);
+    private final StringBuilder scratch = new StringBuilder();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong batchedRecordCount = new AtomicLong();
+    private volatile int largestBatchSize;
+
+    @Override
+    public void write(@NonNull LogRecord record) {
+        LogChunker.println(record.getPriority(), record.getTag(), String.valueOf(record.formatMessage()));
+    }
+
+    @Override
+    public synchronized void write(@NonNull LogRecord[] records, int count) {
+        int start = 0;
+        while (start < count) {
+            LogRecord first = records[start];
+            int size = messageLength(first);
+            int end = start + 1;
+            while (end < count) {
+                LogRecord record = records[end];
+                int length = messageLength(record);
+                if (record.getPriority() != first.getPriority() || !Objects.equals(record.getTag(), first.getTag())
+                        || size + 1 + length > LogChunker.MAX_PAYLOAD_BYTES) {
+                    break;
+                }
+                size += 1 + length;
+                end++;
+            }
+            if (end - start == 1) {
+                write(first);
+            } else {
+                batch.setLength(0);
+                for (int i = start; i < end; i++) {
+                    if (i > start) {
+                        batch.append('\n');
+                    }
+                    records[i].appendMessage(batch);
+                }
+                Log.println(first.getPriority(), first.getTag(), batch.toString());
+            }
+            recordBatch(end - start);
+            start = end;
+        }
+        if (batch.capacity() > LogChunker.MAX_PAYLOAD_BYTES * 2) {
+            batch.setLength(0);
+            batch.trimToSize();
+        }
+        if (scratch.capacity() > LogChunker.MAX_PAYLOAD_BYTES * 2) {
+            scratch.setLength(0);
+            scratch.trimToSize();
+        }
+    }
+
+    @NonNull
+    public BatchStats getBatchStats() {
+        return new BatchStats(batchCount.get(), batchedRecordCount.get(), largestBatchSize);
+    }
+
+    private int messageLength(@NonNull LogRecord record) {
+        if (record.getFields() == null && record.getContext() == null) {
+            return Utf8.length(record.getMessage());
+        }
+        scratch.setLength(0);
+        record.appendMessage(scratch);
+        return Utf8.length(scratch);
+    }
+
+    private void recordBatch(int size) {
+        batchCount.incrementAndGet();
+        batchedRecordCount.addAndGet(size);
+        if (size > largestBatchSize) {
+            largestBatchSize = size;
+        }
+    }
+}
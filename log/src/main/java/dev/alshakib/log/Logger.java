@@ -0,0 +1,962 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+public final class Logger {
+    private final String tag;
+    private Levels levels;
+
+    Logger(@NonNull String tag) {
+        this.tag = tag;
+        this.levels = new Levels(LogCompat.getSnapshot(), tag);
+    }
+
+    @NonNull
+    public String getTag() {
+        return tag;
+    }
+
+    public boolean isLoggable(int priority) {
+        return (getLevels().enabledLevels & (1 << priority)) != 0;
+    }
+
+    @NonNull
+    public LogCompat.Span span(@NonNull String name) {
+        return LogCompat.span(tag, name);
+    }
+
+    @NonNull
+    public LogEvent atInfo() {
+        return shouldLog(Log.INFO) ? LogEvent.obtain(Log.INFO, tag) : LogEvent.NOOP;
+    }
+
+    @NonNull
+    public LogEvent atDebug() {
+        return shouldLog(Log.DEBUG) ? LogEvent.obtain(Log.DEBUG, tag) : LogEvent.NOOP;
+    }
+
+    @NonNull
+    public LogEvent atWarning() {
+        return shouldLog(Log.WARN) ? LogEvent.obtain(Log.WARN, tag) : LogEvent.NOOP;
+    }
+
+    @NonNull
+    public LogEvent atError() {
+        return shouldLog(Log.ERROR) ? LogEvent.obtain(Log.ERROR, tag) : LogEvent.NOOP;
+    }
+
+    @NonNull
+    public LogEvent atVerbose() {
+        return shouldLog(Log.VERBOSE) ? LogEvent.obtain(Log.VERBOSE, tag) : LogEvent.NOOP;
+    }
+
+    private boolean shouldLog(int priority) {
+        Levels levels = getLevels();
+        LogMetrics metrics = LogCompat.getMetrics();
+        if ((levels.enabledLevels & (1 << priority)) != 0) {
+            RateLimiter limiter = levels.rateLimiters != null ? levels.rateLimiters[priority] : null;
+            if (limiter == null || limiter.tryAcquire()) {
+                if (metrics != null) {
+                    metrics.begin();
+                }
+                return true;
+            }
+        }
+        if (metrics != null) {
+            metrics.filtered(priority, tag);
+        }
+        return false;
+    }
+
+    @NonNull
+    private Levels getLevels() {
+        ConfigSnapshot snapshot = LogCompat.getSnapshot();
+        Levels levels = this.levels;
+        if (levels.snapshot != snapshot) {
+            levels = new Levels(snapshot, tag);
+            this.levels = levels;
+        }
+        return levels;
+    }
+
+    public void info(String message) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printMessage(Log.INFO, tag, message);
+        }
+    }
+
+    public void debug(String message) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printMessage(Log.DEBUG, tag, message);
+        }
+    }
+
+    public void warning(String message) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printMessage(Log.WARN, tag, message);
+        }
+    }
+
+    public void error(String message) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printMessage(Log.ERROR, tag, message);
+        }
+    }
+
+    public void verbose(String message) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printMessage(Log.VERBOSE, tag, message);
+        }
+    }
+
+    public void info(@NonNull LogSite site, String message) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printMessage(Log.INFO, site, tag, message);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, String message) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printMessage(Log.DEBUG, site, tag, message);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, String message) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printMessage(Log.WARN, site, tag, message);
+        }
+    }
+
+    public void error(@NonNull LogSite site, String message) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printMessage(Log.ERROR, site, tag, message);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, String message) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printMessage(Log.VERBOSE, site, tag, message);
+        }
+    }
+
+    public void info(Exception exception) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printThrowable(Log.INFO, tag, exception);
+        }
+    }
+
+    public void debug(Exception exception) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printThrowable(Log.DEBUG, tag, exception);
+        }
+    }
+
+    public void warning(Exception exception) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printThrowable(Log.WARN, tag, exception);
+        }
+    }
+
+    public void error(Exception exception) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printThrowable(Log.ERROR, tag, exception);
+        }
+    }
+
+    public void verbose(Exception exception) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printThrowable(Log.VERBOSE, tag, exception);
+        }
+    }
+
+    public void info(@NonNull LogSite site, Exception exception) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printThrowable(Log.INFO, site, tag, exception);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, Exception exception) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printThrowable(Log.DEBUG, site, tag, exception);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, Exception exception) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printThrowable(Log.WARN, site, tag, exception);
+        }
+    }
+
+    public void error(@NonNull LogSite site, Exception exception) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printThrowable(Log.ERROR, site, tag, exception);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, Exception exception) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printThrowable(Log.VERBOSE, site, tag, exception);
+        }
+    }
+
+    public void info(Throwable throwable) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printThrowable(Log.INFO, tag, throwable);
+        }
+    }
+
+    public void debug(Throwable throwable) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printThrowable(Log.DEBUG, tag, throwable);
+        }
+    }
+
+    public void warning(Throwable throwable) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printThrowable(Log.WARN, tag, throwable);
+        }
+    }
+
+    public void error(Throwable throwable) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printThrowable(Log.ERROR, tag, throwable);
+        }
+    }
+
+    public void verbose(Throwable throwable) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printThrowable(Log.VERBOSE, tag, throwable);
+        }
+    }
+
+    public void info(@NonNull LogSite site, Throwable throwable) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printThrowable(Log.INFO, site, tag, throwable);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, Throwable throwable) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printThrowable(Log.DEBUG, site, tag, throwable);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, Throwable throwable) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printThrowable(Log.WARN, site, tag, throwable);
+        }
+    }
+
+    public void error(@NonNull LogSite site, Throwable throwable) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printThrowable(Log.ERROR, site, tag, throwable);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, Throwable throwable) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printThrowable(Log.VERBOSE, site, tag, throwable);
+        }
+    }
+
+    public void info(Object object) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printObject(Log.INFO, tag, object);
+        }
+    }
+
+    public void debug(Object object) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printObject(Log.DEBUG, tag, object);
+        }
+    }
+
+    public void warning(Object object) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printObject(Log.WARN, tag, object);
+        }
+    }
+
+    public void error(Object object) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printObject(Log.ERROR, tag, object);
+        }
+    }
+
+    public void verbose(Object object) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printObject(Log.VERBOSE, tag, object);
+        }
+    }
+
+    public void info(@NonNull LogSite site, Object object) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printObject(Log.INFO, site, tag, object);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, Object object) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printObject(Log.DEBUG, site, tag, object);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, Object object) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printObject(Log.WARN, site, tag, object);
+        }
+    }
+
+    public void error(@NonNull LogSite site, Object object) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printObject(Log.ERROR, site, tag, object);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, Object object) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printObject(Log.VERBOSE, site, tag, object);
+        }
+    }
+
+    public void info(String message, boolean json) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printMessage(Log.INFO, tag, message, json);
+        }
+    }
+
+    public void debug(String message, boolean json) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printMessage(Log.DEBUG, tag, message, json);
+        }
+    }
+
+    public void warning(String message, boolean json) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printMessage(Log.WARN, tag, message, json);
+        }
+    }
+
+    public void error(String message, boolean json) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printMessage(Log.ERROR, tag, message, json);
+        }
+    }
+
+    public void verbose(String message, boolean json) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printMessage(Log.VERBOSE, tag, message, json);
+        }
+    }
+
+    public void info(@NonNull LogSite site, String message, boolean json) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printMessage(Log.INFO, site, tag, message, json);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, String message, boolean json) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printMessage(Log.DEBUG, site, tag, message, json);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, String message, boolean json) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printMessage(Log.WARN, site, tag, message, json);
+        }
+    }
+
+    public void error(@NonNull LogSite site, String message, boolean json) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printMessage(Log.ERROR, site, tag, message, json);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, String message, boolean json) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printMessage(Log.VERBOSE, site, tag, message, json);
+        }
+    }
+
+    public void info(Exception exception, boolean json) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printException(Log.INFO, tag, exception, json);
+        }
+    }
+
+    public void debug(Exception exception, boolean json) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printException(Log.DEBUG, tag, exception, json);
+        }
+    }
+
+    public void warning(Exception exception, boolean json) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printException(Log.WARN, tag, exception, json);
+        }
+    }
+
+    public void error(Exception exception, boolean json) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printException(Log.ERROR, tag, exception, json);
+        }
+    }
+
+    public void verbose(Exception exception, boolean json) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printException(Log.VERBOSE, tag, exception, json);
+        }
+    }
+
+    public void info(@NonNull LogSite site, Exception exception, boolean json) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printException(Log.INFO, site, tag, exception, json);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, Exception exception, boolean json) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printException(Log.DEBUG, site, tag, exception, json);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, Exception exception, boolean json) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printException(Log.WARN, site, tag, exception, json);
+        }
+    }
+
+    public void error(@NonNull LogSite site, Exception exception, boolean json) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printException(Log.ERROR, site, tag, exception, json);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, Exception exception, boolean json) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printException(Log.VERBOSE, site, tag, exception, json);
+        }
+    }
+
+    public void info(Object object, boolean json) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printObject(Log.INFO, tag, object, json);
+        }
+    }
+
+    public void debug(Object object, boolean json) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printObject(Log.DEBUG, tag, object, json);
+        }
+    }
+
+    public void warning(Object object, boolean json) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printObject(Log.WARN, tag, object, json);
+        }
+    }
+
+    public void error(Object object, boolean json) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printObject(Log.ERROR, tag, object, json);
+        }
+    }
+
+    public void verbose(Object object, boolean json) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printObject(Log.VERBOSE, tag, object, json);
+        }
+    }
+
+    public void info(@NonNull LogSite site, Object object, boolean json) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printObject(Log.INFO, site, tag, object, json);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, Object object, boolean json) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printObject(Log.DEBUG, site, tag, object, json);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, Object object, boolean json) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printObject(Log.WARN, site, tag, object, json);
+        }
+    }
+
+    public void error(@NonNull LogSite site, Object object, boolean json) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printObject(Log.ERROR, site, tag, object, json);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, Object object, boolean json) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printObject(Log.VERBOSE, site, tag, object, json);
+        }
+    }
+
+    public void info(MessageSupplier supplier) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printSupplier(Log.INFO, tag, supplier);
+        }
+    }
+
+    public void debug(MessageSupplier supplier) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printSupplier(Log.DEBUG, tag, supplier);
+        }
+    }
+
+    public void warning(MessageSupplier supplier) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printSupplier(Log.WARN, tag, supplier);
+        }
+    }
+
+    public void error(MessageSupplier supplier) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printSupplier(Log.ERROR, tag, supplier);
+        }
+    }
+
+    public void verbose(MessageSupplier supplier) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printSupplier(Log.VERBOSE, tag, supplier);
+        }
+    }
+
+    public void info(@NonNull LogSite site, MessageSupplier supplier) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printSupplier(Log.INFO, site, tag, supplier);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, MessageSupplier supplier) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printSupplier(Log.DEBUG, site, tag, supplier);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, MessageSupplier supplier) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printSupplier(Log.WARN, site, tag, supplier);
+        }
+    }
+
+    public void error(@NonNull LogSite site, MessageSupplier supplier) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printSupplier(Log.ERROR, site, tag, supplier);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, MessageSupplier supplier) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printSupplier(Log.VERBOSE, site, tag, supplier);
+        }
+    }
+
+    public void info(long value) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printLong(Log.INFO, tag, null, value);
+        }
+    }
+
+    public void debug(long value) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printLong(Log.DEBUG, tag, null, value);
+        }
+    }
+
+    public void warning(long value) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printLong(Log.WARN, tag, null, value);
+        }
+    }
+
+    public void error(long value) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printLong(Log.ERROR, tag, null, value);
+        }
+    }
+
+    public void verbose(long value) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printLong(Log.VERBOSE, tag, null, value);
+        }
+    }
+
+    public void info(@NonNull LogSite site, long value) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printLong(Log.INFO, site, tag, null, value);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, long value) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printLong(Log.DEBUG, site, tag, null, value);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, long value) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printLong(Log.WARN, site, tag, null, value);
+        }
+    }
+
+    public void error(@NonNull LogSite site, long value) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printLong(Log.ERROR, site, tag, null, value);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, long value) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printLong(Log.VERBOSE, site, tag, null, value);
+        }
+    }
+
+    public void info(double value) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printDouble(Log.INFO, tag, value);
+        }
+    }
+
+    public void debug(double value) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printDouble(Log.DEBUG, tag, value);
+        }
+    }
+
+    public void warning(double value) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printDouble(Log.WARN, tag, value);
+        }
+    }
+
+    public void error(double value) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printDouble(Log.ERROR, tag, value);
+        }
+    }
+
+    public void verbose(double value) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printDouble(Log.VERBOSE, tag, value);
+        }
+    }
+
+    public void info(@NonNull LogSite site, double value) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printDouble(Log.INFO, site, tag, value);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, double value) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printDouble(Log.DEBUG, site, tag, value);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, double value) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printDouble(Log.WARN, site, tag, value);
+        }
+    }
+
+    public void error(@NonNull LogSite site, double value) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printDouble(Log.ERROR, site, tag, value);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, double value) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printDouble(Log.VERBOSE, site, tag, value);
+        }
+    }
+
+    public void info(float value) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printFloat(Log.INFO, tag, value);
+        }
+    }
+
+    public void debug(float value) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printFloat(Log.DEBUG, tag, value);
+        }
+    }
+
+    public void warning(float value) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printFloat(Log.WARN, tag, value);
+        }
+    }
+
+    public void error(float value) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printFloat(Log.ERROR, tag, value);
+        }
+    }
+
+    public void verbose(float value) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printFloat(Log.VERBOSE, tag, value);
+        }
+    }
+
+    public void info(@NonNull LogSite site, float value) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printFloat(Log.INFO, site, tag, value);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, float value) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printFloat(Log.DEBUG, site, tag, value);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, float value) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printFloat(Log.WARN, site, tag, value);
+        }
+    }
+
+    public void error(@NonNull LogSite site, float value) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printFloat(Log.ERROR, site, tag, value);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, float value) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printFloat(Log.VERBOSE, site, tag, value);
+        }
+    }
+
+    public void info(boolean value) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printBoolean(Log.INFO, tag, value);
+        }
+    }
+
+    public void debug(boolean value) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printBoolean(Log.DEBUG, tag, value);
+        }
+    }
+
+    public void warning(boolean value) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printBoolean(Log.WARN, tag, value);
+        }
+    }
+
+    public void error(boolean value) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printBoolean(Log.ERROR, tag, value);
+        }
+    }
+
+    public void verbose(boolean value) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printBoolean(Log.VERBOSE, tag, value);
+        }
+    }
+
+    public void info(@NonNull LogSite site, boolean value) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printBoolean(Log.INFO, site, tag, value);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, boolean value) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printBoolean(Log.DEBUG, site, tag, value);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, boolean value) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printBoolean(Log.WARN, site, tag, value);
+        }
+    }
+
+    public void error(@NonNull LogSite site, boolean value) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printBoolean(Log.ERROR, site, tag, value);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, boolean value) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printBoolean(Log.VERBOSE, site, tag, value);
+        }
+    }
+
+    public void info(char value) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printChar(Log.INFO, tag, value);
+        }
+    }
+
+    public void debug(char value) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printChar(Log.DEBUG, tag, value);
+        }
+    }
+
+    public void warning(char value) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printChar(Log.WARN, tag, value);
+        }
+    }
+
+    public void error(char value) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printChar(Log.ERROR, tag, value);
+        }
+    }
+
+    public void verbose(char value) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printChar(Log.VERBOSE, tag, value);
+        }
+    }
+
+    public void info(@NonNull LogSite site, char value) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printChar(Log.INFO, site, tag, value);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, char value) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printChar(Log.DEBUG, site, tag, value);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, char value) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printChar(Log.WARN, site, tag, value);
+        }
+    }
+
+    public void error(@NonNull LogSite site, char value) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printChar(Log.ERROR, site, tag, value);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, char value) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printChar(Log.VERBOSE, site, tag, value);
+        }
+    }
+
+    public void info(String prefix, long value) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printLong(Log.INFO, tag, prefix, value);
+        }
+    }
+
+    public void debug(String prefix, long value) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printLong(Log.DEBUG, tag, prefix, value);
+        }
+    }
+
+    public void warning(String prefix, long value) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printLong(Log.WARN, tag, prefix, value);
+        }
+    }
+
+    public void error(String prefix, long value) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printLong(Log.ERROR, tag, prefix, value);
+        }
+    }
+
+    public void verbose(String prefix, long value) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printLong(Log.VERBOSE, tag, prefix, value);
+        }
+    }
+
+    public void info(@NonNull LogSite site, String prefix, long value) {
+        if (shouldLog(Log.INFO)) {
+            LogCompat.printLong(Log.INFO, site, tag, prefix, value);
+        }
+    }
+
+    public void debug(@NonNull LogSite site, String prefix, long value) {
+        if (shouldLog(Log.DEBUG)) {
+            LogCompat.printLong(Log.DEBUG, site, tag, prefix, value);
+        }
+    }
+
+    public void warning(@NonNull LogSite site, String prefix, long value) {
+        if (shouldLog(Log.WARN)) {
+            LogCompat.printLong(Log.WARN, site, tag, prefix, value);
+        }
+    }
+
+    public void error(@NonNull LogSite site, String prefix, long value) {
+        if (shouldLog(Log.ERROR)) {
+            LogCompat.printLong(Log.ERROR, site, tag, prefix, value);
+        }
+    }
+
+    public void verbose(@NonNull LogSite site, String prefix, long value) {
+        if (shouldLog(Log.VERBOSE)) {
+            LogCompat.printLong(Log.VERBOSE, site, tag, prefix, value);
+        }
+    }
+
+    private static final class Levels {
+        private final ConfigSnapshot snapshot;
+        private final int enabledLevels;
+        private final RateLimiter[] rateLimiters;
+
+        private Levels(@NonNull ConfigSnapshot snapshot, @NonNull String tag) {
+            this.snapshot = snapshot;
+            this.enabledLevels = snapshot.getEnabledLevels(tag);
+            this.rateLimiters = snapshot.getRateLimiters(tag);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.os.Process;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Locale;
+
+public final class MappedFileSink implements LogSink {
+    private static final String SEGMENT_PREFIX = "log-";
+    private static final int DEFAULT_SEGMENT_SIZE = 1024 * 1024;
+    private static final int DEFAULT_MAX_SEGMENTS = 10;
+    private static final long RETRY_DELAY_MILLIS = 10000;
+
+    private final File directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final long maxTotalBytes;
+    private final RecordEncoder encoder;
+    private final String suffix;
+    private final LogRecord oversized = new LogRecord();
+
+    private MappedByteBuffer buffer;
+    private File segment;
+    private long segmentIndex;
+    private int headerLength;
+    private boolean compressRotatedSegments;
+    private long retryAt;
+
+    public MappedFileSink(@NonNull File directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_SEGMENTS, Long.MAX_VALUE);
+    }
+
+    public MappedFileSink(@NonNull File directory, int segmentSize, int maxSegments, long maxTotalBytes) {
+        this(directory, segmentSize, maxSegments, maxTotalBytes, LogFormat.TEXT);
+    }
+
+    public MappedFileSink(@NonNull File directory, int segmentSize, int maxSegments, long maxTotalBytes,
+                          @NonNull LogFormat format) {
+        if (segmentSize <= 0 || maxSegments <= 0 || maxTotalBytes <= 0) {
+            throw new IllegalArgumentException("Segment size, segment count and total size must be positive");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.maxTotalBytes = maxTotalBytes;
+        if (format == LogFormat.BINARY) {
+            this.encoder = new BinaryRecordEncoder(Process.myPid());
+        } else {
+            this.encoder = new TextRecordEncoder(Process.myPid());
+        }
+        this.suffix = encoder.getSuffix();
+        File[] leftovers = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX)
+                && name.endsWith(SegmentCompressor.TEMPORARY_SUFFIX));
+        if (leftovers != null) {
+            for (File leftover : leftovers) {
+                leftover.delete();
+            }
+        }
+        File[] segments = listSegments();
+        if (segments.length > 0) {
+            File last = segments[segments.length - 1];
+            segmentIndex = indexOf(last);
+            if (last.getName().endsWith(suffix) && encoder.isPaddingTrimmable()) {
+                trim(last);
+            }
+        }
+    }
+
+    public synchronized void setCompressRotatedSegments(boolean compressRotatedSegments) {
+        this.compressRotatedSegments = compressRotatedSegments;
+        if (compressRotatedSegments) {
+            for (File file : listSegments()) {
+                if (file.getName().endsWith(suffix) && !file.equals(segment)) {
+                    SegmentCompressor.getInstance().submit(file);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void write(@NonNull LogRecord record) {
+        if (buffer == null && System.currentTimeMillis() < retryAt) {
+            LogCompat.recordDropped(record.getPriority(), record.getTag());
+            return;
+        }
+        int length = encoder.encode(record);
+        try {
+            if (buffer == null || (buffer.remaining() < length && buffer.position() > headerLength)) {
+                roll(record.getTimestamp());
+                length = encoder.encode(record);
+            }
+            if (buffer.remaining() < length) {
+                encoder.discard();
+                LogCompat.recordDropped(record.getPriority(), record.getTag());
+                oversized.set(Log.WARN, record.getTag(), "Dropped a log record of " + length
+                        + " bytes that does not fit in a " + segmentSize + " byte segment", null,
+                        record.getTimestamp(), record.getThreadId());
+                length = encoder.encode(oversized);
+                oversized.clear();
+                if (buffer.remaining() < length) {
+                    encoder.discard();
+                    return;
+                }
+            }
+            encoder.writeTo(buffer);
+        } catch (IOException e) {
+            encoder.discard();
+            buffer = null;
+            retryAt = System.currentTimeMillis() + RETRY_DELAY_MILLIS;
+            LogCompat.recordDropped(record.getPriority(), record.getTag());
+            ErrorReporter.report(this, "Unable to write log segment in " + directory, e);
+        }
+    }
+
+    @Override
+    public synchronized void write(@NonNull LogRecord[] records, int count) {
+        for (int i = 0; i < count; i++) {
+            write(records[i]);
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    public synchronized void close() {
+        try {
+            finishSegment();
+        } catch (IOException e) {
+            ErrorReporter.report(this, "Unable to close log segment in " + directory, e);
+        }
+    }
+
+    @NonNull
+    public File[] getSegments() {
+        return listSegments();
+    }
+
+    private void roll(long timestamp) throws IOException {
+        finishSegment();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Unable to create log directory: " + directory);
+        }
+        segmentIndex++;
+        File next = new File(directory, String.format(Locale.US, "%s%06d%s", SEGMENT_PREFIX, segmentIndex, suffix));
+        try (RandomAccessFile file = new RandomAccessFile(next, "rw")) {
+            buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segment = next;
+        headerLength = encoder.beginSegment(timestamp);
+        encoder.writeTo(buffer);
+        enforceRetention();
+    }
+
+    private void finishSegment() throws IOException {
+        MappedByteBuffer buffer = this.buffer;
+        if (buffer != null) {
+            this.buffer = null;
+            buffer.force();
+            try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+                file.setLength(buffer.position());
+            }
+            if (compressRotatedSegments) {
+                SegmentCompressor.getInstance().submit(segment);
+            }
+        }
+    }
+
+    private void enforceRetention() {
+        File[] segments = listSegments();
+        long totalBytes = 0;
+        for (File file : segments) {
+            totalBytes += file.length();
+        }
+        for (int i = 0; i < segments.length - 1; i++) {
+            if (segments.length - i <= maxSegments && totalBytes <= maxTotalBytes) {
+                break;
+            }
+            totalBytes -= segments[i].length();
+            if (!segments[i].delete()) {
+                break;
+            }
+        }
+    }
+
+    @NonNull
+    private File[] listSegments() {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX)
+                && (name.endsWith(suffix) || name.endsWith(suffix + SegmentCompressor.SUFFIX)));
+        if (files == null) {
+            return new File[0];
+        }
+        Arrays.sort(files, (first, second) -> Long.compare(indexOf(first), indexOf(second)));
+        return files;
+    }
+
+    private long indexOf(@NonNull File file) {
+        String name = file.getName();
+        int end = name.length() - suffix.length();
+        if (name.endsWith(SegmentCompressor.SUFFIX)) {
+            end -= SegmentCompressor.SUFFIX.length();
+        }
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), end));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static void trim(@NonNull File file) {
+        try (RandomAccessFile segment = new RandomAccessFile(file, "rw")) {
+            long length = segment.length();
+            if (length == 0) {
+                return;
+            }
+            MappedByteBuffer buffer = segment.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+            int end = (int) length;
+            while (end > 0 && buffer.get(end - 1) == 0) {
+                end--;
+            }
+            if (end < length) {
+                segment.setLength(end);
+            }
+        } catch (IOException e) {
+            ErrorReporter.report(MappedFileSink.class, "Unable to trim log segment " + file, e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class MetricsCell {
+    static final int BUCKET_COUNT = 24;
+    static final int BUCKET_BASE_SHIFT = 8;
+    static final int STRIPES = stripeCount();
+
+    private static final int RECORDS = 0;
+    private static final int BYTES = 1;
+    private static final int DROPPED = 2;
+    private static final int FILTERED = 3;
+    private static final int BUCKETS = 4;
+    private static final int STRIDE = 32;
+
+    private final AtomicLongArray cells = new AtomicLongArray(STRIPES * STRIDE);
+
+    void recorded(long bytes, long latencyNanos) {
+        int base = stripe();
+        cells.getAndIncrement(base + RECORDS);
+        cells.getAndAdd(base + BYTES, bytes);
+        if (latencyNanos >= 0) {
+            cells.getAndIncrement(base + BUCKETS + bucketOf(latencyNanos));
+        }
+    }
+
+    void dropped() {
+        cells.getAndIncrement(stripe() + DROPPED);
+    }
+
+    void filtered() {
+        cells.getAndIncrement(stripe() + FILTERED);
+    }
+
+    @NonNull
+    LogCounters snapshot() {
+        long[] histogram = new long[BUCKET_COUNT];
+        long records = 0;
+        long bytes = 0;
+        long dropped = 0;
+        long filtered = 0;
+        for (int base = 0; base < cells.length(); base += STRIDE) {
+            records += cells.get(base + RECORDS);
+            bytes += cells.get(base + BYTES);
+            dropped += cells.get(base + DROPPED);
+            filtered += cells.get(base + FILTERED);
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                histogram[i] += cells.get(base + BUCKETS + i);
+            }
+        }
+        return new LogCounters(records, bytes, dropped, filtered, histogram);
+    }
+
+    static int bucketOf(long latencyNanos) {
+        int bucket = 64 - Long.numberOfLeadingZeros(Math.max(0, latencyNanos) >>> BUCKET_BASE_SHIFT);
+        return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    static int currentStripe() {
+        return (int) Thread.currentThread().getId() & (STRIPES - 1);
+    }
+
+    private static int stripe() {
+        return currentStripe() * STRIDE;
+    }
+
+    private static int stripeCount() {
+        int processors = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        return Integer.highestOneBit(Math.max(processors * 2 - 1, 1));
+    }
+}
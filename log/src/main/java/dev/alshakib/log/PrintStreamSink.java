@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+import java.io.PrintStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+public final class PrintStreamSink implements LogSink {
+    private final PrintStream stream;
+    private final StringBuilder line = new StringBuilder();
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat("MM-dd HH:mm:ss.SSS", Locale.US);
+    private final Date date = new Date();
+
+    public PrintStreamSink() {
+        this(System.out);
+    }
+
+    public PrintStreamSink(@NonNull PrintStream stream) {
+        this.stream = stream;
+    }
+
+    @Override
+    public synchronized void write(@NonNull LogRecord record) {
+        date.setTime(record.getTimestamp());
+        line.setLength(0);
+        line.append(dateFormat.format(date))
+                .append(' ')
+                .append(LogRecord.getPriorityChar(record.getPriority()))
+                .append('/')
+                .append(record.getTag())
+                .append(": ");
+        record.appendMessage(line);
+        stream.println(line);
+    }
+
+    @Override
+    public void flush() {
+        stream.flush();
+    }
+}
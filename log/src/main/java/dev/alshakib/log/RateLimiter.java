@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class RateLimiter {
+    static final long SUMMARY_WINDOW_MILLIS = 1000;
+
+    private static final int OVER_BUDGET = 0;
+    private static final int SUPPRESSED = 1;
+    private static final int STRIDE = 16;
+
+    private final int priority;
+    private final String tag;
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final int sampleRate;
+    private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+    private final AtomicLongArray counters = new AtomicLongArray(MetricsCell.STRIPES * STRIDE);
+    private final AtomicBoolean summaryScheduled = new AtomicBoolean();
+    private final Runnable summary = this::emitSummary;
+
+    RateLimiter(int priority, @NonNull String tag, int recordsPerSecond, int burst, int sampleRate) {
+        if (recordsPerSecond <= 0 || burst <= 0 || sampleRate < 0) {
+            throw new IllegalArgumentException("Rate and burst must be positive and sample rate must not be negative");
+        }
+        this.priority = priority;
+        this.tag = tag;
+        this.emissionInterval = 1000000000L / recordsPerSecond;
+        this.burstTolerance = emissionInterval * burst;
+        this.sampleRate = sampleRate;
+    }
+
+    boolean tryAcquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = (arrival - now > 0 ? arrival : now) + emissionInterval;
+            if (next - now > burstTolerance) {
+                break;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return true;
+            }
+        }
+        int base = MetricsCell.currentStripe() * STRIDE;
+        if (sampleRate > 0 && counters.incrementAndGet(base + OVER_BUDGET) % sampleRate == 0) {
+            return true;
+        }
+        counters.getAndIncrement(base + SUPPRESSED);
+        if (!summaryScheduled.get() && summaryScheduled.compareAndSet(false, true)) {
+            LogScheduler.schedule(summary, SUMMARY_WINDOW_MILLIS);
+        }
+        return false;
+    }
+
+    private void emitSummary() {
+        summaryScheduled.set(false);
+        long count = 0;
+        for (int base = 0; base < counters.length(); base += STRIDE) {
+            count += counters.getAndSet(base + SUPPRESSED, 0);
+        }
+        if (count > 0) {
+            LogCompat.println(priority, tag, sampleRate > 0
+                    ? "Rate limit suppressed " + count + " lines, keeping 1 in " + sampleRate
+                    : "Rate limit suppressed " + count + " lines");
+        }
+    }
+}
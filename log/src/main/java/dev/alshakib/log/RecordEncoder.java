@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+import java.nio.ByteBuffer;
+
+abstract class RecordEncoder {
+    byte[] bytes = new byte[1024];
+    int length;
+
+    @NonNull
+    abstract String getSuffix();
+
+    boolean isPaddingTrimmable() {
+        return true;
+    }
+
+    int beginSegment(long timestamp) {
+        length = 0;
+        return length;
+    }
+
+    abstract int encode(@NonNull LogRecord record);
+
+    void discard() {
+        length = 0;
+    }
+
+    void writeTo(@NonNull ByteBuffer buffer) {
+        buffer.put(bytes, 0, length);
+    }
+
+    final void appendByte(int value) {
+        ensureCapacity(1);
+        bytes[length++] = (byte) value;
+    }
+
+    final void appendChars(@NonNull String value, int start, int end) {
+        ensureCapacity((end - start) * 3);
+        length = Utf8.encode(value, start, end, bytes, length);
+    }
+
+    final void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            byte[] grown = new byte[Math.max(bytes.length * 2, length + extra)];
+            System.arraycopy(bytes, 0, grown, 0, length);
+            bytes = grown;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+final class SegmentCompressor {
+    static final String SUFFIX = ".gz";
+    static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+    private static final long PRESSURE_BACKOFF_MILLIS = 50;
+
+    private static SegmentCompressor instance;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(() -> {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            runnable.run();
+        }, "LogCompat-compress");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    private final CRC32 crc = new CRC32();
+    private final byte[] input = new byte[64 * 1024];
+    private final byte[] output = new byte[64 * 1024];
+
+    private SegmentCompressor() { }
+
+    @NonNull
+    static synchronized SegmentCompressor getInstance() {
+        if (instance == null) {
+            instance = new SegmentCompressor();
+        }
+        return instance;
+    }
+
+    void submit(@NonNull File file) {
+        executor.execute(() -> compress(file));
+    }
+
+    private void compress(@NonNull File file) {
+        File target = new File(file.getPath() + SUFFIX);
+        File temporary = new File(target.getPath() + TEMPORARY_SUFFIX);
+        try (InputStream in = new FileInputStream(file); FileOutputStream out = new FileOutputStream(temporary)) {
+            deflater.reset();
+            crc.reset();
+            out.write(GZIP_HEADER);
+            long size = 0;
+            int read;
+            while ((read = in.read(input)) > 0) {
+                if (!awaitLowPressure()) {
+                    throw new IOException("Interrupted while compressing " + file);
+                }
+                crc.update(input, 0, read);
+                size += read;
+                deflater.setInput(input, 0, read);
+                while (!deflater.needsInput()) {
+                    out.write(output, 0, deflater.deflate(output));
+                }
+            }
+            deflater.finish();
+            while (!deflater.finished()) {
+                out.write(output, 0, deflater.deflate(output));
+            }
+            writeIntLittleEndian(out, crc.getValue());
+            writeIntLittleEndian(out, size);
+            out.getFD().sync();
+        } catch (IOException e) {
+            temporary.delete();
+            ErrorReporter.report(this, "Unable to compress log segment " + file, e);
+            return;
+        }
+        if (temporary.renameTo(target)) {
+            file.delete();
+        } else {
+            temporary.delete();
+            ErrorReporter.report(this, "Unable to compress log segment " + file,
+                    new IOException("Unable to rename " + temporary + " to " + target));
+        }
+    }
+
+    private boolean awaitLowPressure() {
+        while (LogCompat.isUnderPressure()) {
+            try {
+                Thread.sleep(PRESSURE_BACKOFF_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeIntLittleEndian(@NonNull FileOutputStream out, long value) throws IOException {
+        for (int i = 0; i < 4; i++) {
+            output[i] = (byte) (value >>> (i * 8));
+        }
+        out.write(output, 0, 4);
+    }
+}
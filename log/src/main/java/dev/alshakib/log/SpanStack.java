@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+final class SpanStack {
+    private static final ThreadLocal<SpanStack> CURRENT = new ThreadLocal<SpanStack>() {
+        @Override
+        protected SpanStack initialValue() {
+            return new SpanStack();
+        }
+    };
+
+    private LogCompat.Span[] spans = new LogCompat.Span[8];
+    private int depth;
+
+    private SpanStack() { }
+
+    @NonNull
+    static LogCompat.Span open(@NonNull String tag, @NonNull String name) {
+        return CURRENT.get().push(tag, name);
+    }
+
+    @NonNull
+    private LogCompat.Span push(@NonNull String tag, @NonNull String name) {
+        if (depth == spans.length) {
+            spans = Arrays.copyOf(spans, depth * 2);
+        }
+        LogCompat.Span span = spans[depth];
+        if (span == null) {
+            span = new LogCompat.Span(this, depth);
+            spans[depth] = span;
+        }
+        depth++;
+        span.open(tag, name);
+        return span;
+    }
+
+    void pop(int index) {
+        for (int i = depth - 1; i >= index; i--) {
+            spans[i].reset();
+        }
+        depth = index;
+    }
+}
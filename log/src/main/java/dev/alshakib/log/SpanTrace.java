@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+
+package dev.alshakib.log;
+
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class SpanTrace {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final String[] tags;
+    private final String[] names;
+    private final String[] threadNames;
+    private final long[] threadIds;
+    private final long[] starts;
+    private final long[] durations;
+    private final AtomicLongArray sequences;
+    private final AtomicLong next = new AtomicLong();
+    private final int mask;
+
+    SpanTrace(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.tags = new String[size];
+        this.names = new String[size];
+        this.threadNames = new String[size];
+        this.threadIds = new long[size];
+        this.starts = new long[size];
+        this.durations = new long[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    void record(@NonNull String tag, @NonNull String name, long start, long duration) {
+        long sequence = next.getAndIncrement();
+        int slot = (int) (sequence & mask);
+        long busy = sequence * 2 + 1;
+        sequences.set(slot, busy);
+        Thread thread = Thread.currentThread();
+        tags[slot] = tag;
+        names[slot] = name;
+        threadNames[slot] = thread.getName();
+        threadIds[slot] = thread.getId();
+        starts[slot] = start;
+        durations[slot] = duration;
+        sequences.compareAndSet(slot, busy, busy + 1);
+    }
+
+    synchronized void write(@NonNull File file) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Unable to create " + parent);
+        }
+        int pid = Process.myPid();
+        StringBuilder builder = new StringBuilder();
+        Set<Long> threads = new HashSet<>();
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8));
+            writer.write("{\"traceEvents\":[");
+            boolean first = true;
+            long last = next.get();
+            for (long sequence = Math.max(0, last - mask - 1); sequence < last; sequence++) {
+                int slot = (int) (sequence & mask);
+                long done = sequence * 2 + 2;
+                if (sequences.get(slot) != done) {
+                    continue;
+                }
+                String tag = tags[slot];
+                String name = names[slot];
+                String threadName = threadNames[slot];
+                long threadId = threadIds[slot];
+                long start = starts[slot];
+                long duration = durations[slot];
+                if (sequences.get(slot) != done) {
+                    continue;
+                }
+                builder.setLength(0);
+                if (threads.add(threadId)) {
+                    builder.append(first ? "\n" : ",\n").append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":")
+                            .append(pid).append(",\"tid\":").append(threadId).append(",\"args\":{\"name\":");
+                    appendString(builder, threadName);
+                    builder.append("}}");
+                    first = false;
+                }
+                builder.append(first ? "\n" : ",\n").append("{\"name\":");
+                appendString(builder, name);
+                builder.append(",\"cat\":");
+                appendString(builder, tag);
+                builder.append(",\"ph\":\"X\",\"ts\":");
+                appendScaled(builder, start, 1000);
+                builder.append(",\"dur\":");
+                appendScaled(builder, duration, 1000);
+                builder.append(",\"pid\":").append(pid).append(",\"tid\":").append(threadId).append('}');
+                first = false;
+                writer.append(builder);
+            }
+            writer.write("\n],\"displayTimeUnit\":\"ms\"}\n");
+            writer.flush();
+            out.getFD().sync();
+        }
+    }
+
+    static void appendScaled(@NonNull StringBuilder builder, long nanos, long unit) {
+        if (nanos < 0) {
+            builder.append('-');
+            nanos = -nanos;
+        }
+        builder.append(nanos / unit).append('.');
+        long fraction = nanos % unit * 1000 / unit;
+        if (fraction < 100) {
+            builder.append('0');
+        }
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        builder.append(fraction);
+    }
+
+    private static void appendString(@NonNull StringBuilder builder, @NonNull String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < ' ') {
+                builder.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 15, 16));
+            } else {
+                builder.append(c);
+            }
+        }
+        builder.append('"');
+    }
+}
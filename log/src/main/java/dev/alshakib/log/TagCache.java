@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+final class TagCache {
+    private static final int MAX_TAG_LENGTH = 23;
+    private static final ConcurrentHashMap<Class<?>, String> TAGS = new ConcurrentHashMap<>();
+
+    private TagCache() { }
+
+    @NonNull
+    static String get(@NonNull Class<?> clazz) {
+        String tag = TAGS.get(clazz);
+        if (tag == null) {
+            tag = createTag(clazz);
+            TAGS.putIfAbsent(clazz, tag);
+        }
+        return tag;
+    }
+
+    @NonNull
+    private static String createTag(@NonNull Class<?> clazz) {
+        String tag = clazz.getSimpleName();
+        if (tag.isEmpty()) {
+            String name = clazz.getName();
+            tag = name.substring(name.lastIndexOf('.') + 1);
+        }
+        // Log.isLoggable() rejects tags longer than 23 characters before API 26
+        if (tag.length() > MAX_TAG_LENGTH && Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
+            tag = tag.substring(0, MAX_TAG_LENGTH);
+        }
+        return tag;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+import java.util.Calendar;
+
+final class TextRecordEncoder extends RecordEncoder {
+    private static final int MIN_TAG_WIDTH = 8;
+
+    private final int processId;
+    private final Calendar calendar = Calendar.getInstance();
+    private final byte[] second = new byte[14];
+    private long cachedSecond = Long.MIN_VALUE;
+
+    TextRecordEncoder(int processId) {
+        this.processId = processId;
+    }
+
+    @NonNull
+    @Override
+    String getSuffix() {
+        return ".log";
+    }
+
+    @Override
+    int encode(@NonNull LogRecord record) {
+        length = 0;
+        String message = String.valueOf(record.formatMessage());
+        int start = 0;
+        do {
+            int end = message.indexOf('\n', start);
+            if (end < 0) {
+                end = message.length();
+            }
+            appendHeader(record);
+            appendChars(message, start, end);
+            appendByte('\n');
+            start = end + 1;
+        } while (start < message.length());
+        return length;
+    }
+
+    private void appendHeader(@NonNull LogRecord record) {
+        long timestamp = record.getTimestamp();
+        long seconds = timestamp / 1000;
+        if (seconds != cachedSecond) {
+            cachedSecond = seconds;
+            calendar.setTimeInMillis(seconds * 1000);
+            formatTwoDigits(second, 0, calendar.get(Calendar.MONTH) + 1);
+            second[2] = '-';
+            formatTwoDigits(second, 3, calendar.get(Calendar.DAY_OF_MONTH));
+            second[5] = ' ';
+            formatTwoDigits(second, 6, calendar.get(Calendar.HOUR_OF_DAY));
+            second[8] = ':';
+            formatTwoDigits(second, 9, calendar.get(Calendar.MINUTE));
+            second[11] = ':';
+            formatTwoDigits(second, 12, calendar.get(Calendar.SECOND));
+        }
+        ensureCapacity(second.length + 32);
+        System.arraycopy(second, 0, bytes, length, second.length);
+        length += second.length;
+        appendByte('.');
+        appendNumber(timestamp % 1000, 3, '0');
+        appendByte(' ');
+        appendNumber(processId, 5, ' ');
+        appendByte(' ');
+        appendNumber(record.getThreadId(), 5, ' ');
+        appendByte(' ');
+        appendByte(LogRecord.getPriorityChar(record.getPriority()));
+        appendByte(' ');
+        String tag = String.valueOf(record.getTag());
+        appendChars(tag, 0, tag.length());
+        for (int i = tag.length(); i < MIN_TAG_WIDTH; i++) {
+            appendByte(' ');
+        }
+        appendByte(':');
+        appendByte(' ');
+    }
+
+    private void appendNumber(long value, int width, char padding) {
+        int digits = 1;
+        for (long remaining = Math.abs(value) / 10; remaining > 0; remaining /= 10) {
+            digits++;
+        }
+        if (value < 0) {
+            digits++;
+        }
+        ensureCapacity(Math.max(width, digits));
+        for (int i = digits; i < width; i++) {
+            bytes[length++] = (byte) padding;
+        }
+        int end = length + digits;
+        long remaining = Math.abs(value);
+        for (int i = end - 1; i >= length; i--) {
+            bytes[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        if (value < 0) {
+            bytes[length] = '-';
+        }
+        length = end;
+    }
+
+    private static void formatTwoDigits(@NonNull byte[] target, int offset, int value) {
+        target[offset] = (byte) ('0' + value / 10);
+        target[offset + 1] = (byte) ('0' + value % 10);
+    }
+}
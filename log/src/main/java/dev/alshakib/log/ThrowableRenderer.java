@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+final class ThrowableRenderer {
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final int FOLD_CACHE_SIZE = 64;
+
+    private static final ThreadLocal<ThrowableRenderer> RENDERER = new ThreadLocal<ThrowableRenderer>() {
+        @Override
+        protected ThrowableRenderer initialValue() {
+            return new ThrowableRenderer();
+        }
+    };
+
+    private static final long[] foldFingerprints = new long[FOLD_CACHE_SIZE];
+    private static final int[] foldIds = new int[FOLD_CACHE_SIZE];
+    private static final long[] foldWindowStarts = new long[FOLD_CACHE_SIZE];
+    private static final int[] foldCounts = new int[FOLD_CACHE_SIZE];
+    private static int nextFoldId;
+
+    private final StringBuilder builder = new StringBuilder();
+    private final Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<Throwable, Boolean>());
+
+    private ThrowableRenderer() { }
+
+    @NonNull
+    static String render(@NonNull Throwable throwable, long foldWindowMillis) {
+        ThrowableRenderer renderer = RENDERER.get();
+        try {
+            StringBuilder builder = renderer.builder;
+            builder.setLength(0);
+            if (foldWindowMillis > 0) {
+                long fingerprint = renderer.fingerprint(throwable, 17);
+                renderer.seen.clear();
+                long now = System.nanoTime();
+                int id;
+                int count;
+                synchronized (foldFingerprints) {
+                    int index = (int) (fingerprint ^ (fingerprint >>> 32)) & (FOLD_CACHE_SIZE - 1);
+                    if (foldIds[index] != 0 && foldFingerprints[index] == fingerprint
+                            && now - foldWindowStarts[index] < foldWindowMillis * 1000000L) {
+                        foldCounts[index]++;
+                    } else {
+                        if (foldIds[index] == 0 || foldFingerprints[index] != fingerprint) {
+                            foldIds[index] = ++nextFoldId;
+                            foldFingerprints[index] = fingerprint;
+                        }
+                        foldWindowStarts[index] = now;
+                        foldCounts[index] = 1;
+                    }
+                    id = foldIds[index];
+                    count = foldCounts[index];
+                }
+                if (count > 1) {
+                    return builder.append(throwable).append(" (same as #").append(id)
+                            .append(" (x ").append(count).append("))").toString();
+                }
+                builder.append('#').append(id).append(' ');
+            }
+            renderer.appendThrowable(throwable);
+            return builder.toString();
+        } finally {
+            renderer.seen.clear();
+            if (renderer.builder.capacity() > MAX_RETAINED_CAPACITY) {
+                RENDERER.remove();
+            }
+        }
+    }
+
+    private long fingerprint(@NonNull Throwable throwable, long hash) {
+        if (!seen.add(throwable)) {
+            return hash;
+        }
+        hash = hash * 31 + throwable.getClass().getName().hashCode();
+        for (StackTraceElement element : throwable.getStackTrace()) {
+            hash = hash * 31 + element.hashCode();
+        }
+        for (Throwable suppressed : throwable.getSuppressed()) {
+            hash = fingerprint(suppressed, hash * 31 + 1);
+        }
+        Throwable cause = throwable.getCause();
+        if (cause != null) {
+            hash = fingerprint(cause, hash * 31 + 2);
+        }
+        return hash;
+    }
+
+    private void appendThrowable(@NonNull Throwable throwable) {
+        seen.add(throwable);
+        builder.append(throwable);
+        StackTraceElement[] trace = throwable.getStackTrace();
+        for (StackTraceElement element : trace) {
+            builder.append(LINE_SEPARATOR).append("\tat ").append(element);
+        }
+        for (Throwable suppressed : throwable.getSuppressed()) {
+            appendEnclosed(suppressed, trace, "Suppressed: ", "\t");
+        }
+        Throwable cause = throwable.getCause();
+        if (cause != null) {
+            appendEnclosed(cause, trace, "Caused by: ", "");
+        }
+    }
+
+    private void appendEnclosed(@NonNull Throwable throwable, @NonNull StackTraceElement[] enclosingTrace,
+                                @NonNull String caption, @NonNull String prefix) {
+        builder.append(LINE_SEPARATOR).append(prefix).append(caption);
+        if (!seen.add(throwable)) {
+            builder.append("[CIRCULAR REFERENCE: ").append(throwable).append(']');
+            return;
+        }
+        builder.append(throwable);
+        StackTraceElement[] trace = throwable.getStackTrace();
+        int last = trace.length - 1;
+        for (int enclosing = enclosingTrace.length - 1;
+             last >= 0 && enclosing >= 0 && trace[last].equals(enclosingTrace[enclosing]); enclosing--) {
+            last--;
+        }
+        for (int i = 0; i <= last; i++) {
+            builder.append(LINE_SEPARATOR).append(prefix).append("\tat ").append(trace[i]);
+        }
+        int framesInCommon = trace.length - 1 - last;
+        if (framesInCommon != 0) {
+            builder.append(LINE_SEPARATOR).append(prefix).append("\t... ").append(framesInCommon).append(" more");
+        }
+        for (Throwable suppressed : throwable.getSuppressed()) {
+            appendEnclosed(suppressed, trace, "Suppressed: ", prefix + "\t");
+        }
+        Throwable cause = throwable.getCause();
+        if (cause != null) {
+            appendEnclosed(cause, trace, "Caused by: ", prefix);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncDispatcherTest {
+    private static final String DROPPED_ONE = "Dropped 1 log records, async buffer is full";
+
+    private static final String TAG = "AsyncDispatcherTest";
+
+    private final CapturingSink sink = new CapturingSink(TAG, "LogCompat");
+    private LogSink[] previousSinks;
+    private AsyncDispatcher dispatcher;
+
+    @Before
+    public void setUp() {
+        previousSinks = LogCompat.getSinks();
+        LogCompat.setSinks(sink);
+    }
+
+    @After
+    public void tearDown() {
+        sink.release();
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+        LogCompat.setSinks(previousSinks);
+    }
+
+    @Test
+    public void deliversRecordsInOrder() {
+        dispatcher = new AsyncDispatcher(8, OverflowPolicy.BLOCK);
+        String[] expected = new String[100];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = "message " + i;
+            assertEquals(AsyncDispatcher.QUEUED, publish(expected[i]));
+        }
+        dispatcher.flush();
+        assertEquals(Arrays.asList(expected), sink.getMessages());
+    }
+
+    @Test
+    public void dropNewestRejectsRecordsWhileFull() throws InterruptedException {
+        dispatcher = new AsyncDispatcher(4, OverflowPolicy.DROP_NEWEST);
+        fillWhileSinkIsBlocked();
+        assertEquals(AsyncDispatcher.DROPPED, publish("newest"));
+        sink.release();
+        shutdown();
+        assertEquals(Arrays.asList("first", "queued 0", "queued 1", "queued 2", "queued 3", DROPPED_ONE),
+                sink.getMessages());
+    }
+
+    @Test
+    public void dropOldestEvictsTheOldestQueuedRecord() throws InterruptedException {
+        dispatcher = new AsyncDispatcher(4, OverflowPolicy.DROP_OLDEST);
+        fillWhileSinkIsBlocked();
+        assertEquals(AsyncDispatcher.QUEUED, publish("newest"));
+        sink.release();
+        shutdown();
+        assertEquals(Arrays.asList("first", "queued 1", "queued 2", "queued 3", "newest", DROPPED_ONE),
+                sink.getMessages());
+    }
+
+    @Test
+    public void blockWaitsForSpace() throws InterruptedException {
+        dispatcher = new AsyncDispatcher(4, OverflowPolicy.BLOCK);
+        fillWhileSinkIsBlocked();
+        AtomicInteger result = new AtomicInteger(-1);
+        Thread producer = new Thread(() -> result.set(publish("newest")));
+        producer.start();
+        producer.join(200);
+        assertTrue("Producer must wait while the buffer is full", producer.isAlive());
+        sink.release();
+        producer.join(5000);
+        assertEquals(AsyncDispatcher.QUEUED, result.get());
+        shutdown();
+        assertEquals(Arrays.asList("first", "queued 0", "queued 1", "queued 2", "queued 3", "newest"),
+                sink.getMessages());
+    }
+
+    @Test
+    public void rejectsRecordsAfterShutdown() {
+        AsyncDispatcher stopped = new AsyncDispatcher(4, OverflowPolicy.BLOCK);
+        stopped.shutdown();
+        assertEquals(AsyncDispatcher.REJECTED, stopped.publish(Log.INFO, TAG, "late", null, 0, 0, null, null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTinyCapacity() {
+        new AsyncDispatcher(1, OverflowPolicy.BLOCK);
+    }
+
+    private void fillWhileSinkIsBlocked() throws InterruptedException {
+        sink.blockNextWrite();
+        publish("first");
+        sink.awaitBlocked();
+        for (int i = 0; i < 4; i++) {
+            assertEquals(AsyncDispatcher.QUEUED, publish("queued " + i));
+        }
+    }
+
+    private int publish(String message) {
+        return dispatcher.publish(Log.INFO, TAG, message, null, System.currentTimeMillis(),
+                Thread.currentThread().getId(), null, null);
+    }
+
+    private void shutdown() {
+        dispatcher.shutdown();
+        dispatcher = null;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BinaryLogDecoderTest {
+    private static final long START = 1600000000000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final LogRecord record = new LogRecord();
+
+    @Test
+    public void decodesWhatTheEncoderWrote() throws IOException {
+        File directory = folder.newFolder();
+        MappedFileSink sink = new MappedFileSink(directory, 4096, 5, Long.MAX_VALUE, LogFormat.BINARY);
+        write(sink, Log.INFO, "Network", "connected", START);
+        write(sink, Log.WARN, "Network", "connected", START + 1500);
+        LogFields fields = new LogFields();
+        fields.add("attempt", LogFields.TYPE_LONG, 3);
+        fields.add("host", "example.com");
+        record.set(Log.ERROR, "Disk", "full", null, START + 2000, 7, fields, null);
+        sink.write(record);
+        record.clear();
+        sink.close();
+
+        List<String> lines = decode(directory);
+        assertEquals(3, lines.size());
+        assertDecoded(lines.get(0), START, 'I', "Network", "connected");
+        assertDecoded(lines.get(1), START + 1500, 'W', "Network", "connected");
+        assertDecoded(lines.get(2), START + 2000, 'E', "Disk", "full attempt=3 host=example.com");
+    }
+
+    @Test
+    public void replacesOversizedRecordsWithAMarker() throws IOException {
+        File directory = folder.newFolder();
+        MappedFileSink sink = new MappedFileSink(directory, 512, 5, Long.MAX_VALUE, LogFormat.BINARY);
+        char[] large = new char[1000];
+        Arrays.fill(large, 'x');
+        write(sink, Log.INFO, "Big", "before", START);
+        write(sink, Log.INFO, "Big", new String(large), START + 1000);
+        write(sink, Log.INFO, "Big", "after", START + 2000);
+        sink.close();
+
+        List<String> lines = decode(directory);
+        assertEquals(3, lines.size());
+        assertDecoded(lines.get(0), START, 'I', "Big", "before");
+        assertTrue(lines.get(1), lines.get(1).contains(" W ")
+                && lines.get(1).contains("Dropped a log record of "));
+        assertDecoded(lines.get(2), START + 2000, 'I', "Big", "after");
+    }
+
+    @Test
+    public void keepsRecordsWhenReopenedWithoutClosing() throws IOException {
+        File directory = folder.newFolder();
+        MappedFileSink crashed = new MappedFileSink(directory, 4096, 5, Long.MAX_VALUE, LogFormat.BINARY);
+        for (int i = 0; i < 3; i++) {
+            write(crashed, Log.INFO, "Crash", "record " + i, START + i);
+        }
+        crashed.flush();
+
+        MappedFileSink reopened = new MappedFileSink(directory, 4096, 5, Long.MAX_VALUE, LogFormat.BINARY);
+        write(reopened, Log.INFO, "Crash", "after restart", START + 10);
+        reopened.close();
+
+        List<String> lines = decode(directory);
+        assertEquals(4, lines.size());
+        for (int i = 0; i < 3; i++) {
+            assertDecoded(lines.get(i), START + i, 'I', "Crash", "record " + i);
+        }
+        assertDecoded(lines.get(3), START + 10, 'I', "Crash", "after restart");
+    }
+
+    @Test
+    public void discardRollsBackDictionariesAndTimestamps() throws IOException {
+        BinaryRecordEncoder encoder = new BinaryRecordEncoder(1);
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        encoder.beginSegment(START);
+        encoder.writeTo(buffer);
+        record.set(Log.INFO, "Kept", "first", null, START + 1000, 1);
+        encoder.encode(record);
+        encoder.writeTo(buffer);
+        record.set(Log.INFO, "Discarded", "never written", null, START + 900000, 1);
+        encoder.encode(record);
+        encoder.discard();
+        record.set(Log.INFO, "Discarded", "never written", null, START + 2000, 1);
+        encoder.encode(record);
+        encoder.writeTo(buffer);
+        record.clear();
+
+        StringBuilder output = new StringBuilder();
+        BinaryLogDecoder.decode(new ByteArrayInputStream(buffer.array(), 0, buffer.position()), output);
+        String[] lines = output.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertDecoded(lines[0], START + 1000, 'I', "Kept", "first");
+        assertDecoded(lines[1], START + 2000, 'I', "Discarded", "never written");
+    }
+
+    private void write(MappedFileSink sink, int priority, String tag, String message, long timestamp) {
+        record.set(priority, tag, message, null, timestamp, 1);
+        sink.write(record);
+        record.clear();
+    }
+
+    private static List<String> decode(File directory) throws IOException {
+        File[] segments = directory.listFiles();
+        Arrays.sort(segments);
+        List<String> lines = new ArrayList<>();
+        for (File segment : segments) {
+            StringBuilder output = new StringBuilder();
+            try (InputStream in = new FileInputStream(segment)) {
+                BinaryLogDecoder.decode(in, output);
+            }
+            for (String line : output.toString().split("\n")) {
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+
+    private static void assertDecoded(String line, long timestamp, char level, String tag, String message) {
+        String time = new SimpleDateFormat("MM-dd HH:mm:ss.SSS", Locale.US).format(new Date(timestamp));
+        assertTrue(line, line.startsWith(time));
+        assertTrue(line, line.contains(" " + level + " " + tag));
+        assertTrue(line, line.endsWith(": " + message));
+    }
+}
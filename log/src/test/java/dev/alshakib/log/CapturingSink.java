@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+final class CapturingSink implements LogSink {
+    private final List<String> tags;
+    private final List<String> messages = new ArrayList<>();
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+    private volatile boolean blocking;
+
+    // Rate limit summaries and repeat counts arrive late, so each test only captures its own tags
+    CapturingSink(@NonNull String... tags) {
+        this.tags = Arrays.asList(tags);
+    }
+
+    @Override
+    public void write(@NonNull LogRecord record) {
+        if (!tags.contains(record.getTag())) {
+            return;
+        }
+        synchronized (this) {
+            messages.add(record.getMessage());
+            notifyAll();
+        }
+        if (blocking) {
+            blocking = false;
+            blocked.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    void blockNextWrite() {
+        blocking = true;
+    }
+
+    void awaitBlocked() throws InterruptedException {
+        if (!blocked.await(5, TimeUnit.SECONDS)) {
+            throw new AssertionError("Sink was never written to");
+        }
+    }
+
+    void release() {
+        blocking = false;
+        released.countDown();
+    }
+
+    @NonNull
+    synchronized List<String> getMessages() {
+        return new ArrayList<>(messages);
+    }
+
+    synchronized void awaitMessage(@NonNull String message) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!messages.contains(message)) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new AssertionError("Expected \"" + message + "\" but got " + messages);
+            }
+            wait(remaining);
+        }
+    }
+}
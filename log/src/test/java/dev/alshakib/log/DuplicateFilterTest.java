@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class DuplicateFilterTest {
+    private static final String TAG = "DuplicateFilterTest";
+
+    private final CapturingSink sink = new CapturingSink(TAG);
+    private final DuplicateFilter filter = new DuplicateFilter(60000);
+    private LogSink[] previousSinks;
+
+    @Before
+    public void setUp() {
+        previousSinks = LogCompat.getSinks();
+        LogCompat.setSinks(sink);
+    }
+
+    @After
+    public void tearDown() {
+        LogCompat.setSinks(previousSinks);
+    }
+
+    @Test
+    public void suppressesRepeatsAndReportsThemOnTheNextMessage() {
+        assertEquals(0, filter.check(Log.INFO, TAG, "tick"));
+        assertEquals(DuplicateFilter.SUPPRESSED, filter.check(Log.INFO, TAG, "tick"));
+        assertEquals(DuplicateFilter.SUPPRESSED, filter.check(Log.INFO, TAG, new String("tick")));
+        assertEquals(2, filter.check(Log.INFO, TAG, "tock"));
+        assertEquals(0, filter.check(Log.INFO, TAG, "tick"));
+    }
+
+    @Test
+    public void tracksPrioritiesAndTagsSeparately() {
+        assertEquals(0, filter.check(Log.INFO, TAG, "tick"));
+        assertEquals(0, filter.check(Log.WARN, TAG, "tick"));
+        assertEquals(0, filter.check(Log.INFO, "Other", "tick"));
+        assertEquals(DuplicateFilter.SUPPRESSED, filter.check(Log.INFO, TAG, "tick"));
+    }
+
+    @Test
+    public void neverCollapsesRecordsWithoutAComparableMessage() {
+        assertEquals(0, filter.check(Log.INFO, TAG, null));
+        assertEquals(0, filter.check(Log.INFO, TAG, null));
+    }
+
+    @Test
+    public void flushEmitsThePendingRepeatCount() {
+        filter.check(Log.INFO, TAG, "tick");
+        filter.check(Log.INFO, TAG, "tick");
+        filter.check(Log.INFO, TAG, "tick");
+        filter.flush();
+        assertEquals(Collections.singletonList("last message repeated 2 times"), sink.getMessages());
+        assertEquals(0, filter.check(Log.INFO, TAG, "tock"));
+    }
+
+    @Test
+    public void describesASingleRepeat() {
+        assertEquals("last message repeated 1 time", DuplicateFilter.repeatedMessage(1));
+    }
+}
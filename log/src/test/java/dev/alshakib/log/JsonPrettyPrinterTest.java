@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JsonPrettyPrinterTest {
+    private static final String NL = System.getProperty("line.separator");
+
+    @Test
+    public void indentsObjectsAndArrays() {
+        assertEquals(" " + NL
+                        + "{" + NL
+                        + "    \"a\": 1," + NL
+                        + "    \"b\": [" + NL
+                        + "        true," + NL
+                        + "        null" + NL
+                        + "    ]," + NL
+                        + "    \"c\": {}" + NL
+                        + "}",
+                JsonPrettyPrinter.prettyPrint("{\"a\":1,\"b\":[true,null],\"c\":{}}", 10, 10000));
+    }
+
+    @Test
+    public void collapsesContainersBeyondMaxDepth() {
+        assertEquals(" " + NL + "{" + NL + "    \"a\": {...}" + NL + "}",
+                JsonPrettyPrinter.prettyPrint("{\"a\":{\"b\":{\"c\":1}}}", 1, 10000));
+    }
+
+    @Test
+    public void truncatesAtMaxLength() {
+        String output = JsonPrettyPrinter.prettyPrint("[1,2,3,4,5,6,7,8,9]", 10, 20);
+        assertTrue(output, output.endsWith(NL + "... (truncated)"));
+        assertTrue(output, output.length() <= 20 + NL.length() + "... (truncated)".length());
+    }
+
+    @Test
+    public void returnsMalformedInputUnchanged() {
+        assertEquals("{\"a\":", JsonPrettyPrinter.prettyPrint("{\"a\":", 10, 10000));
+        assertEquals("[1] x", JsonPrettyPrinter.prettyPrint("[1] x", 10, 10000));
+        assertEquals("not json", JsonPrettyPrinter.prettyPrint("not json", 10, 10000));
+    }
+
+    @Test
+    public void printsNullAsText() {
+        assertEquals("null", JsonPrettyPrinter.prettyPrint(null, 10, 10000));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LogChunkerTest {
+    private static final Pattern MARKER = Pattern.compile("\\[(\\d+)/(\\d+)] (.*)", Pattern.DOTALL);
+
+    private final List<String> lines = new ArrayList<>();
+    private final LogChunker.Output output = (priority, tag, message) -> lines.add(message);
+
+    @Test
+    public void keepsShortMessagesWhole() {
+        LogChunker.println(Log.INFO, "Test", "short", output);
+        assertEquals(Collections.singletonList("short"), lines);
+    }
+
+    @Test
+    public void splitsLongMessagesWithinThePayloadLimit() {
+        String message = repeat("0123456789", 1000);
+        LogChunker.println(Log.INFO, "Test", message, output);
+        assertEquals(3, lines.size());
+        assertEquals(message, join());
+    }
+
+    @Test
+    public void countsMultiByteCharactersInBytes() {
+        String message = repeat("\u20ac", 3000);
+        LogChunker.println(Log.INFO, "Test", message, output);
+        assertEquals(3, lines.size());
+        assertEquals(message, join());
+    }
+
+    @Test
+    public void neverSplitsSurrogatePairs() {
+        String message = repeat("\ud83d\ude00", 2000);
+        LogChunker.println(Log.INFO, "Test", message, output);
+        for (String line : lines) {
+            String body = body(line);
+            assertFalse(Character.isLowSurrogate(body.charAt(0)));
+            assertFalse(Character.isHighSurrogate(body.charAt(body.length() - 1)));
+        }
+        assertEquals(message, join());
+    }
+
+    @Test
+    public void prefersLineBreaksAndDropsThem() {
+        String line = repeat("a", 2500);
+        LogChunker.println(Log.INFO, "Test", line + "\n" + line, output);
+        assertEquals(2, lines.size());
+        for (String chunk : lines) {
+            assertEquals(line, body(chunk));
+        }
+    }
+
+    private String join() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < lines.size(); i++) {
+            Matcher matcher = MARKER.matcher(lines.get(i));
+            assertTrue(lines.get(i), matcher.matches());
+            assertEquals(i + 1, Integer.parseInt(matcher.group(1)));
+            assertEquals(lines.size(), Integer.parseInt(matcher.group(2)));
+            assertTrue(Utf8.length(lines.get(i)) <= LogChunker.MAX_PAYLOAD_BYTES);
+            builder.append(matcher.group(3));
+        }
+        return builder.toString();
+    }
+
+    private static String body(String line) {
+        Matcher matcher = MARKER.matcher(line);
+        assertTrue(line, matcher.matches());
+        return matcher.group(3);
+    }
+
+    private static String repeat(String value, int count) {
+        StringBuilder builder = new StringBuilder(value.length() * count);
+        for (int i = 0; i < count; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+}
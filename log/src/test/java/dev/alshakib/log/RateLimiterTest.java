@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RateLimiterTest {
+    private static final String TAG = "RateLimiterTest";
+
+    private final CapturingSink sink = new CapturingSink(TAG);
+    private LogSink[] previousSinks;
+
+    @Before
+    public void setUp() {
+        previousSinks = LogCompat.getSinks();
+        LogCompat.setSinks(sink);
+    }
+
+    @After
+    public void tearDown() {
+        LogCompat.setSinks(previousSinks);
+    }
+
+    @Test
+    public void allowsTheBurstThenLimits() {
+        RateLimiter limiter = new RateLimiter(Log.INFO, TAG, 1, 3, 0);
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    public void keepsOneInSampleRateOverBudget() {
+        RateLimiter limiter = new RateLimiter(Log.INFO, TAG, 1, 1, 3);
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    public void summarizesSuppressedRecords() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(Log.INFO, TAG, 1, 1, 0);
+        assertTrue(limiter.tryAcquire());
+        for (int i = 0; i < 5; i++) {
+            assertFalse(limiter.tryAcquire());
+        }
+        sink.awaitMessage("Rate limit suppressed 5 lines");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonPositiveRates() {
+        new RateLimiter(Log.INFO, TAG, 0, 1, 0);
+    }
+}
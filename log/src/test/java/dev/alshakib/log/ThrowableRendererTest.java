@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Al Shakib (shakib@alshakib.dev)
+ *
+ * This file is part of Log Compat
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package dev.alshakib.log;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ThrowableRendererTest {
+    private static final String NL = System.getProperty("line.separator");
+
+    @Test
+    public void rendersFramesAndCommonFramesOfCauses() {
+        IllegalStateException throwable = new IllegalStateException("outer", new RuntimeException("inner"));
+        String output = ThrowableRenderer.render(throwable, 0);
+        assertTrue(output, output.startsWith("java.lang.IllegalStateException: outer" + NL + "\tat "));
+        assertTrue(output, output.contains(NL + "Caused by: java.lang.RuntimeException: inner"));
+        assertTrue(output, output.contains(" more"));
+    }
+
+    @Test
+    public void foldsRepeatsOfTheSameTraceWithinTheWindow() {
+        String[] outputs = new String[3];
+        for (int i = 0; i < outputs.length; i++) {
+            outputs[i] = ThrowableRenderer.render(new IllegalStateException("repeat " + i), 60000);
+        }
+        assertTrue(outputs[0], outputs[0].startsWith("#") && outputs[0].contains(NL + "\tat "));
+        String id = outputs[0].substring(1, outputs[0].indexOf(' '));
+        assertEquals("java.lang.IllegalStateException: repeat 1 (same as #" + id + " (x 2))", outputs[1]);
+        assertEquals("java.lang.IllegalStateException: repeat 2 (same as #" + id + " (x 3))", outputs[2]);
+    }
+
+    @Test
+    public void givesDifferentTracesDifferentIds() {
+        String first = ThrowableRenderer.render(new IllegalStateException("a"), 60000);
+        String second = ThrowableRenderer.render(new IllegalStateException("b"), 60000);
+        assertNotEquals(first.substring(0, first.indexOf(' ')), second.substring(0, second.indexOf(' ')));
+        assertTrue(second, second.contains(NL + "\tat "));
+    }
+
+    @Test
+    public void stopsAtCircularCauses() {
+        Exception first = new Exception("first");
+        Exception second = new Exception("second", first);
+        first.initCause(second);
+        String output = ThrowableRenderer.render(first, 0);
+        assertTrue(output, output.contains("[CIRCULAR REFERENCE: java.lang.Exception: first]"));
+    }
+}